@@ -0,0 +1,106 @@
+package control;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * How many errors {@link Validation#sequence(Iterable, Accumulation)}, {@link Validation#ap(Validation, Accumulation)}
+ * and the {@code ap} of the combine builders keep, the validations left once the limit is reached are not read.
+ * <pre>{@code
+ * Validation.sequence(lines, Accumulation.limit(1_000).distinct())
+ * }</pre>
+ */
+public final class Accumulation {
+
+    private static final Accumulation ALL = new Accumulation(Integer.MAX_VALUE, false);
+    private static final Accumulation FAIL_FAST = new Accumulation(1, false);
+
+    private final int maxErrors;
+    private final boolean distinct;
+
+    private Accumulation(int maxErrors, boolean distinct) {
+        this.maxErrors = maxErrors;
+        this.distinct = distinct;
+    }
+
+    public static Accumulation all() {
+        return ALL;
+    }
+
+    public static Accumulation failFast() {
+        return FAIL_FAST;
+    }
+
+    public static Accumulation limit(int maxErrors) {
+        if (maxErrors <= 0) throw new IllegalArgumentException("maxErrors must be positive");
+        return new Accumulation(maxErrors, false);
+    }
+
+    // Errors equal to an error already kept are dropped and do not count toward the limit
+    public Accumulation distinct() {
+        return distinct ? this : new Accumulation(maxErrors, true);
+    }
+
+    public int maxErrors() {
+        return maxErrors;
+    }
+
+    public boolean isDistinct() {
+        return distinct;
+    }
+
+    <E> Errors<E> errors() {
+        return new Errors<>(maxErrors, distinct);
+    }
+
+    @Override
+    public String toString() {
+        return "Accumulation(" + (maxErrors == Integer.MAX_VALUE ? "all" : "limit " + maxErrors) + (distinct ? ", distinct)" : ")");
+    }
+
+    // The error list is only allocated with the first error
+    static final class Errors<E> {
+
+        private final int maxErrors;
+        private final boolean distinct;
+        private List<E> list;
+        private Set<E> seen;
+
+        private Errors(int maxErrors, boolean distinct) {
+            this.maxErrors = maxErrors;
+            this.distinct = distinct;
+        }
+
+        void add(E error) {
+            if (isFull()) return;
+            if (distinct) {
+                if (seen == null) seen = new HashSet<>();
+                if (!seen.add(error)) return;
+            }
+            if (list == null) list = new ArrayList<>(Math.min(maxErrors, 16));
+            list.add(error);
+        }
+
+        void addAll(List<? extends E> errors) {
+            for (E error : errors) {
+                if (isFull()) return;
+                add(error);
+            }
+        }
+
+        boolean isFull() {
+            return list != null && list.size() >= maxErrors;
+        }
+
+        boolean isEmpty() {
+            return list == null;
+        }
+
+        List<E> toList() {
+            return list == null ? Collections.emptyList() : list;
+        }
+    }
+}
@@ -10,7 +10,6 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 public interface Control<T> extends Iterable<T> {
 
@@ -116,12 +115,11 @@ public interface Control<T> extends Iterable<T> {
     }
 
     default Stream<T> stream() {
-        return StreamSupport.stream(spliterator(), false);
+        return isEmpty() ? Stream.empty() : Stream.of(get());
     }
 
     @Override
     default Spliterator<T> spliterator() {
-        return Spliterators.spliterator(iterator(), isEmpty() ? 0 : 1,
-                Spliterator.IMMUTABLE | Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED);
+        return isEmpty() ? Spliterators.emptySpliterator() : Iterators.spliterator(get());
     }
 }
@@ -0,0 +1,14 @@
+package control;
+
+public record Done<T>(T value) implements TailCall<T> {
+
+    @Override
+    public T get() {
+        return value;
+    }
+
+    @Override
+    public T evaluate() {
+        return value;
+    }
+}
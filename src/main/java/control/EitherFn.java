@@ -0,0 +1,138 @@
+package control;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Pre-built chain of {@link Either} operations, built once and applied to many values:
+ * <pre>{@code
+ * EitherFn<String, String, Integer> age = EitherFn.<String, String>identity()
+ *         .filterOrElse(s -> s.matches("\\d+"), s -> "not a number: " + s)
+ *         .map(Integer::parseInt);
+ * Either<String, Integer> result = age.apply("42");
+ * }</pre>
+ * The steps run in a single loop over the current value, the only object allocated per application is the
+ * resulting {@code Left} or {@code Right}. Each call to a builder method returns a new pipeline, an {@code EitherFn}
+ * is immutable and can be shared between threads.
+ */
+public final class EitherFn<T, L, R> implements Function<T, Either<L, R>> {
+
+    private static final byte MAP = 0;
+    private static final byte FLAT_MAP = 1;
+    private static final byte FILTER_OR_ELSE = 2;
+    private static final byte MAP_LEFT = 3;
+    private static final byte RECOVER = 4;
+    private static final byte RECOVER_WITH = 5;
+
+    private static final EitherFn<?, ?, ?> IDENTITY = new EitherFn<>(new byte[0], new Object[0]);
+
+    private final byte[] kinds;
+    private final Object[] steps;
+
+    private EitherFn(byte[] kinds, Object[] steps) {
+        this.kinds = kinds;
+        this.steps = steps;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <L, T> EitherFn<T, L, T> identity() {
+        return (EitherFn<T, L, T>) IDENTITY;
+    }
+
+    public static <L, T, R> EitherFn<T, L, R> of(Function<? super T, ? extends Either<L, ? extends R>> f) {
+        return EitherFn.<L, T>identity().flatMap(f);
+    }
+
+    public <U> EitherFn<T, L, U> map(Function<? super R, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return append(MAP, mapper);
+    }
+
+    public <U> EitherFn<T, L, U> flatMap(Function<? super R, ? extends Either<L, ? extends U>> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return append(FLAT_MAP, mapper);
+    }
+
+    public EitherFn<T, L, R> filterOrElse(Predicate<? super R> predicate, Function<? super R, ? extends L> zero) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(zero, "zero is null");
+        return append(FILTER_OR_ELSE, new FilterOrElse<R, L>(predicate, zero));
+    }
+
+    public <U> EitherFn<T, U, R> mapLeft(Function<? super L, ? extends U> leftMapper) {
+        Objects.requireNonNull(leftMapper, "leftMapper is null");
+        return append(MAP_LEFT, leftMapper);
+    }
+
+    public EitherFn<T, L, R> recover(Function<? super L, ? extends R> recoveryFunction) {
+        Objects.requireNonNull(recoveryFunction, "recoveryFunction is null");
+        return append(RECOVER, recoveryFunction);
+    }
+
+    public EitherFn<T, L, R> recoverWith(Function<? super L, ? extends Either<? extends L, ? extends R>> recoveryFunction) {
+        Objects.requireNonNull(recoveryFunction, "recoveryFunction is null");
+        return append(RECOVER_WITH, recoveryFunction);
+    }
+
+    @Override
+    public Either<L, R> apply(T value) {
+        return run(value, false);
+    }
+
+    public Either<L, R> applyEither(Either<? extends L, ? extends T> either) {
+        Objects.requireNonNull(either, "either is null");
+        return either.isRight() ? run(either.get(), false) : run(either.getLeft(), true);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Either<L, R> run(Object value, boolean left) {
+        final byte[] kinds = this.kinds;
+        final Object[] steps = this.steps;
+        for (int i = 0; i < kinds.length; i++) {
+            final byte kind = kinds[i];
+            if (!left) {
+                if (kind == MAP) {
+                    value = Objects.requireNonNull(((Function) steps[i]).apply(value), "right is null");
+                } else if (kind == FLAT_MAP) {
+                    final Either<?, ?> result = (Either<?, ?>) ((Function) steps[i]).apply(value);
+                    left = result.isLeft();
+                    value = left ? result.getLeft() : result.get();
+                } else if (kind == FILTER_OR_ELSE) {
+                    final FilterOrElse filter = (FilterOrElse) steps[i];
+                    if (!filter.predicate().test(value)) {
+                        value = Objects.requireNonNull(filter.zero().apply(value), "left is null");
+                        left = true;
+                    }
+                }
+            } else if (kind == MAP_LEFT) {
+                value = Objects.requireNonNull(((Function) steps[i]).apply(value), "left is null");
+            } else if (kind == RECOVER) {
+                value = Objects.requireNonNull(((Function) steps[i]).apply(value), "right is null");
+                left = false;
+            } else if (kind == RECOVER_WITH) {
+                final Either<?, ?> result = (Either<?, ?>) ((Function) steps[i]).apply(value);
+                left = result.isLeft();
+                value = left ? result.getLeft() : result.get();
+            }
+        }
+        return left ? Either.left((L) value) : Either.right((R) value);
+    }
+
+    private <M, U> EitherFn<T, M, U> append(byte kind, Object step) {
+        final byte[] nextKinds = Arrays.copyOf(kinds, kinds.length + 1);
+        final Object[] nextSteps = Arrays.copyOf(steps, steps.length + 1);
+        nextKinds[kinds.length] = kind;
+        nextSteps[steps.length] = step;
+        return new EitherFn<>(nextKinds, nextSteps);
+    }
+
+    @Override
+    public String toString() {
+        return "EitherFn(" + kinds.length + " steps)";
+    }
+
+    private record FilterOrElse<R, L>(Predicate<? super R> predicate, Function<? super R, ? extends L> zero) {
+    }
+}
@@ -0,0 +1,207 @@
+package control;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Immutable set of enum-coded errors kept as a bitmask, one {@code long} for enums of up to 64 constants and a
+ * {@code long[]} above. Used as the error type of a {@code Validation}, errors are merged with a bitwise or:
+ * <pre>{@code
+ * Validation<ErrorSet<Code>, User> user = Validation.combine(name, age).ap(ErrorSet::union, User::new);
+ * }</pre>
+ * Single error sets of small enums are cached, so reporting an error does not allocate. The errors are turned into
+ * a list only by {@link #toList()}.
+ */
+public final class ErrorSet<E extends Enum<E>> implements Iterable<E>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ClassValue<Universe> UNIVERSES = new ClassValue<>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected Universe computeValue(Class<?> type) {
+            return new Universe((Class) type);
+        }
+    };
+
+    private final Class<E> type;
+    private final long bits;
+    // null for enums of up to 64 constants
+    private final long[] words;
+
+    private ErrorSet(Class<E> type, long bits, long[] words) {
+        this.type = type;
+        this.bits = bits;
+        this.words = words;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> ErrorSet<E> empty(Class<E> type) {
+        Objects.requireNonNull(type, "type is null");
+        if (!type.isEnum()) throw new IllegalArgumentException(type.getName() + " is not an enum");
+        return (ErrorSet<E>) UNIVERSES.get(type).empty;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> ErrorSet<E> of(E error) {
+        Objects.requireNonNull(error, "error is null");
+        final Universe universe = UNIVERSES.get(error.getDeclaringClass());
+        if (universe.singletons != null) return (ErrorSet<E>) universe.singletons[error.ordinal()];
+        final long[] words = new long[universe.words];
+        words[error.ordinal() >>> 6] = 1L << error.ordinal();
+        return new ErrorSet<>(error.getDeclaringClass(), 0, words);
+    }
+
+    @SafeVarargs
+    public static <E extends Enum<E>> ErrorSet<E> of(E first, E... rest) {
+        Objects.requireNonNull(rest, "rest is null");
+        ErrorSet<E> set = of(first);
+        for (E error : rest) set = set.with(error);
+        return set;
+    }
+
+    // Shortcut for Validation.invalid(ErrorSet.of(error))
+    public static <E extends Enum<E>, T> Validation<ErrorSet<E>, T> invalid(E error) {
+        return Validation.invalid(of(error));
+    }
+
+    public boolean isEmpty() {
+        if (words == null) return bits == 0;
+        for (long word : words) {
+            if (word != 0) return false;
+        }
+        return true;
+    }
+
+    public int size() {
+        if (words == null) return Long.bitCount(bits);
+        int size = 0;
+        for (long word : words) size += Long.bitCount(word);
+        return size;
+    }
+
+    public boolean contains(E error) {
+        Objects.requireNonNull(error, "error is null");
+        checkType(error.getDeclaringClass());
+        final int ordinal = error.ordinal();
+        return ((words == null ? bits : words[ordinal >>> 6]) & (1L << ordinal)) != 0;
+    }
+
+    public ErrorSet<E> with(E error) {
+        return union(of(error));
+    }
+
+    // Returns this set when the other one adds nothing
+    public ErrorSet<E> union(ErrorSet<E> other) {
+        Objects.requireNonNull(other, "other is null");
+        checkType(other.type);
+        if (words == null) {
+            final long union = bits | other.bits;
+            return union == bits ? this : union == other.bits ? other : new ErrorSet<>(type, union, null);
+        }
+        long[] union = null;
+        for (int w = 0; w < words.length; w++) {
+            if ((other.words[w] & ~words[w]) != 0) {
+                if (union == null) union = words.clone();
+                union[w] |= other.words[w];
+            }
+        }
+        return union == null ? this : new ErrorSet<>(type, 0, union);
+    }
+
+    // Errors in ordinal order
+    public List<E> toList() {
+        final List<E> list = new ArrayList<>(size());
+        for (E error : this) list.add(error);
+        return Collections.unmodifiableList(list);
+    }
+
+    public EnumSet<E> toEnumSet() {
+        final EnumSet<E> set = EnumSet.noneOf(type);
+        for (E error : this) set.add(error);
+        return set;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        final E[] constants = UNIVERSES.get(type).constants();
+        return new Iterator<>() {
+
+            private int word = 0;
+            private long remaining = words == null ? bits : words.length == 0 ? 0 : words[0];
+
+            @Override
+            public boolean hasNext() {
+                while (remaining == 0 && words != null && word + 1 < words.length) remaining = words[++word];
+                return remaining != 0;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                final int ordinal = (word << 6) + Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+                return constants[ordinal];
+            }
+        };
+    }
+
+    private void checkType(Class<?> other) {
+        if (other != type) throw new IllegalArgumentException(other.getName() + " is not " + type.getName());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || obj instanceof ErrorSet<?> other && type == other.type && bits == other.bits && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * type.hashCode() + (words == null ? Long.hashCode(bits) : Arrays.hashCode(words));
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("ErrorSet[");
+        for (E error : this) {
+            if (builder.length() > 9) builder.append(", ");
+            builder.append(error);
+        }
+        return builder.append(']').toString();
+    }
+
+    // Constants of an enum with its empty set and, up to 64 constants, one cached set per constant
+    private static final class Universe {
+
+        private final Enum<?>[] constants;
+        private final int words;
+        private final ErrorSet<?> empty;
+        private final ErrorSet<?>[] singletons;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Universe(Class type) {
+            this.constants = (Enum<?>[]) type.getEnumConstants();
+            this.words = constants.length > 64 ? (constants.length + 63) >>> 6 : 0;
+            if (constants.length > 64) {
+                this.empty = new ErrorSet<>(type, 0, new long[words]);
+                this.singletons = null;
+            } else {
+                this.empty = new ErrorSet<>(type, 0, null);
+                this.singletons = new ErrorSet[constants.length];
+                for (int i = 0; i < constants.length; i++) singletons[i] = new ErrorSet<>(type, 1L << i, null);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        <E> E[] constants() {
+            return (E[]) constants;
+        }
+    }
+}
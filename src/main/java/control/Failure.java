@@ -1,7 +1,15 @@
 package control;
 
+import control.func.CheckedFunction1;
+
 import java.io.Serializable;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 public record Failure<T>(Throwable cause) implements Try<T>, Serializable {
 
@@ -14,16 +22,21 @@ public record Failure<T>(Throwable cause) implements Try<T>, Serializable {
         }
     }
 
-    private static boolean isFatal(Throwable throwable) {
+    static boolean isFatal(Throwable throwable) {
         return throwable instanceof InterruptedException
                 || throwable instanceof LinkageError
                 || throwable instanceof ThreadDeath
                 || throwable instanceof VirtualMachineError;
     }
 
+    // Rethrows fatal errors, they are never captured in a Failure
+    static Throwable nonFatal(Throwable throwable) {
+        return isFatal(throwable) ? sneakyThrow(throwable) : throwable;
+    }
+
     // DEV-NOTE: we do not plan to expose this as public API
     @SuppressWarnings("unchecked")
-    private static <T extends Throwable, R> R sneakyThrow(Throwable t) throws T {
+    static <T extends Throwable, R> R sneakyThrow(Throwable t) throws T {
         throw (T) t;
     }
 
@@ -51,4 +64,73 @@ public record Failure<T>(Throwable cause) implements Try<T>, Serializable {
     public boolean isSuccess() {
         return false;
     }
-}
\ No newline at end of file
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <U> Try<U> map(Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return (Failure<U>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <U> Try<U> mapTry(CheckedFunction1<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return (Failure<U>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <U> Try<U> flatMap(Function<? super T, ? extends Try<? extends U>> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return (Failure<U>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <U> Try<U> flatMapTry(CheckedFunction1<? super T, ? extends Try<? extends U>> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return (Failure<U>) this;
+    }
+
+    @Override
+    public Try<T> recover(Function<? super Throwable, ? extends T> f) {
+        Objects.requireNonNull(f, "f is null");
+        try {
+            return new Success<>(f.apply(cause));
+        } catch (Throwable t) {
+            return new Failure<>(t);
+        }
+    }
+
+    @Override
+    public <X> X fold(Function<? super Throwable, ? extends X> ifFail, Function<? super T, ? extends X> f) {
+        return ifFail.apply(cause);
+    }
+
+    @Override
+    public T getOrElse(T other) {
+        return other;
+    }
+
+    @Override
+    public T getOrElse(Supplier<? extends T> supplier) {
+        Objects.requireNonNull(supplier, "supplier is null");
+        return supplier.get();
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action is null");
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return Stream.empty();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.emptySpliterator();
+    }
+}
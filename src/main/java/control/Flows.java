@@ -0,0 +1,388 @@
+package control;
+
+import control.func.CheckedFunction1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link Flow} adapters for controls, demand is always propagated to the upstream subscription.
+ */
+public class Flows {
+
+    public static <T, R> Flow.Processor<T, Try<R>> mapTry(CheckedFunction1<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return new TryProcessor<>(mapper);
+    }
+
+    public static <L, R> Flow.Subscriber<Either<L, R>> split(Flow.Subscriber<? super L> left, Flow.Subscriber<? super R> right) {
+        return split(left, right, Flow.defaultBufferSize());
+    }
+
+    public static <L, R> Flow.Subscriber<Either<L, R>> split(Flow.Subscriber<? super L> left, Flow.Subscriber<? super R> right, int bufferSize) {
+        Objects.requireNonNull(left, "left is null");
+        Objects.requireNonNull(right, "right is null");
+        if (bufferSize <= 0) throw new IllegalArgumentException("bufferSize must be positive");
+        return new EitherSplitter<>(left, right, bufferSize);
+    }
+
+    public static <E, T> ValidationCollector<E, T> collectValidation() {
+        return collectValidation(Flow.defaultBufferSize());
+    }
+
+    public static <E, T> ValidationCollector<E, T> collectValidation(int batchSize) {
+        if (batchSize <= 0) throw new IllegalArgumentException("batchSize must be positive");
+        return new ValidationCollector<>(batchSize);
+    }
+
+    final static class TryProcessor<T, R> implements Flow.Processor<T, Try<R>>, Flow.Subscription {
+
+        private final CheckedFunction1<? super T, ? extends R> mapper;
+
+        private Flow.Subscription upstream;
+        private Flow.Subscriber<? super Try<R>> downstream;
+        private boolean connected;
+        private boolean done;
+        private Throwable error;
+
+        TryProcessor(CheckedFunction1<? super T, ? extends R> mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Try<R>> subscriber) {
+            Objects.requireNonNull(subscriber, "subscriber is null");
+            final boolean rejected;
+            final boolean connect;
+            synchronized (this) {
+                rejected = downstream != null;
+                if (!rejected) downstream = subscriber;
+                connect = !rejected && upstream != null;
+            }
+            if (rejected) {
+                subscriber.onSubscribe(CancelledSubscription.INSTANCE);
+                subscriber.onError(new IllegalStateException("Processor supports a single subscriber"));
+            } else if (connect) {
+                connect();
+            }
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            Objects.requireNonNull(subscription, "subscription is null");
+            final boolean connect;
+            synchronized (this) {
+                if (upstream != null) {
+                    subscription.cancel();
+                    return;
+                }
+                upstream = subscription;
+                connect = downstream != null;
+            }
+            if (connect) connect();
+        }
+
+        private void connect() {
+            downstream.onSubscribe(this);
+            final boolean terminated;
+            synchronized (this) {
+                connected = true;
+                terminated = done;
+            }
+            if (terminated) terminate();
+        }
+
+        @Override
+        public void onNext(T item) {
+            downstream.onNext(Try.of(() -> mapper.apply(item)));
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            Objects.requireNonNull(throwable, "throwable is null");
+            synchronized (this) {
+                done = true;
+                error = throwable;
+                if (!connected) return;
+            }
+            terminate();
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (this) {
+                done = true;
+                if (!connected) return;
+            }
+            terminate();
+        }
+
+        private void terminate() {
+            if (error != null) downstream.onError(error);
+            else downstream.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            upstream.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            upstream.cancel();
+        }
+    }
+
+    // Each side is buffered separately, upstream is only asked for what the fullest active side can still hold
+    final static class EitherSplitter<L, R> implements Flow.Subscriber<Either<L, R>> {
+
+        private final Branch<L> left;
+        private final Branch<R> right;
+        private final int bufferSize;
+
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong inFlight = new AtomicLong();
+
+        private volatile Flow.Subscription upstream;
+        private volatile boolean done;
+        private volatile Throwable error;
+        private boolean cancelled;
+
+        EitherSplitter(Flow.Subscriber<? super L> left, Flow.Subscriber<? super R> right, int bufferSize) {
+            this.left = new Branch<>(left);
+            this.right = new Branch<>(right);
+            this.bufferSize = bufferSize;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            Objects.requireNonNull(subscription, "subscription is null");
+            if (upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+            // Holds the drain loop so that no branch is signalled before both have received onSubscribe
+            wip.getAndIncrement();
+            left.subscriber.onSubscribe(left);
+            right.subscriber.onSubscribe(right);
+            drainLoop();
+        }
+
+        @Override
+        public void onNext(Either<L, R> item) {
+            inFlight.decrementAndGet();
+            if (item.isRight()) right.offer(item.get());
+            else left.offer(item.getLeft());
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            Objects.requireNonNull(throwable, "throwable is null");
+            error = throwable;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) return;
+            drainLoop();
+        }
+
+        // Runs by the thread that moved wip from zero
+        private void drainLoop() {
+            int missed = 1;
+            do {
+                final Flow.Subscription subscription = upstream;
+                if (subscription != null) {
+                    left.emit();
+                    right.emit();
+                    if (!cancelled) {
+                        if (left.cancelled && right.cancelled) {
+                            cancelled = true;
+                            subscription.cancel();
+                        } else if (!done) {
+                            final long room = bufferSize - Math.max(left.backlog(), right.backlog()) - inFlight.get();
+                            if (room > 0) {
+                                inFlight.addAndGet(room);
+                                subscription.request(room);
+                            }
+                        }
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        final class Branch<V> implements Flow.Subscription {
+
+            private final Flow.Subscriber<? super V> subscriber;
+            private final Queue<V> queue = new ConcurrentLinkedQueue<>();
+            private final AtomicInteger size = new AtomicInteger();
+            private final AtomicLong requested = new AtomicLong();
+
+            private volatile boolean cancelled;
+            private volatile boolean invalidRequest;
+            private boolean terminated;
+
+            Branch(Flow.Subscriber<? super V> subscriber) {
+                this.subscriber = subscriber;
+            }
+
+            void offer(V value) {
+                if (cancelled) return;
+                queue.offer(value);
+                size.incrementAndGet();
+            }
+
+            int backlog() {
+                return cancelled ? 0 : size.get();
+            }
+
+            void emit() {
+                if (terminated) return;
+                if (invalidRequest) {
+                    terminated = true;
+                    cancelled = true;
+                    clear();
+                    subscriber.onError(new IllegalArgumentException("non-positive subscription request"));
+                    return;
+                }
+                if (cancelled) {
+                    terminated = true;
+                    clear();
+                    return;
+                }
+
+                final long demand = requested.get();
+                long emitted = 0;
+                while (emitted != demand && !cancelled) {
+                    final V value = queue.poll();
+                    if (value == null) break;
+                    size.decrementAndGet();
+                    subscriber.onNext(value);
+                    emitted++;
+                }
+                if (emitted != 0 && demand != Long.MAX_VALUE) requested.addAndGet(-emitted);
+
+                if (done && queue.isEmpty() && !cancelled) {
+                    terminated = true;
+                    final Throwable throwable = error;
+                    if (throwable != null) subscriber.onError(throwable);
+                    else subscriber.onComplete();
+                }
+            }
+
+            private void clear() {
+                queue.clear();
+                size.set(0);
+            }
+
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    invalidRequest = true;
+                } else {
+                    requested.getAndUpdate(current -> {
+                        final long next = current + n;
+                        return next < 0 ? Long.MAX_VALUE : next;
+                    });
+                }
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+                drain();
+            }
+        }
+    }
+
+    public final static class ValidationCollector<E, T> implements Flow.Subscriber<Validation<E, T>> {
+
+        private final CompletableFuture<Validation<List<E>, List<T>>> result = new CompletableFuture<>();
+        private final List<E> errors = new ArrayList<>();
+        private final List<T> values = new ArrayList<>();
+        private final int batchSize;
+
+        private Flow.Subscription subscription;
+        private int received;
+
+        private ValidationCollector(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public CompletableFuture<Validation<List<E>, List<T>>> result() {
+            return result;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            Objects.requireNonNull(subscription, "subscription is null");
+            if (this.subscription != null) {
+                subscription.cancel();
+                return;
+            }
+            this.subscription = subscription;
+            result.whenComplete((ignored, throwable) -> {
+                if (result.isCancelled()) subscription.cancel();
+            });
+            subscription.request(batchSize);
+        }
+
+        @Override
+        public void onNext(Validation<E, T> item) {
+            if (item.isInvalid()) {
+                errors.add(item.getError());
+                values.clear(); // Valid values are never part of the result once an error is known
+            } else if (errors.isEmpty()) {
+                values.add(item.get());
+            }
+            if (++received == batchSize) {
+                received = 0;
+                subscription.request(batchSize);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            result.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            result.complete(errors.isEmpty() ? Validation.valid(values) : Validation.invalid(errors));
+        }
+    }
+
+    final static class CancelledSubscription implements Flow.Subscription {
+
+        static final CancelledSubscription INSTANCE = new CancelledSubscription();
+
+        private CancelledSubscription() {
+        }
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package control;
+
+import control.func.CheckedConsumer;
+import control.func.CheckedFunction0;
+import control.func.CheckedFunction1;
+import control.func.CheckedRunnable;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Lazy description of a computation, nothing runs until {@link #evaluate()} is called and the same
+ * description can be evaluated any number of times. Evaluation is a loop over an explicit stack,
+ * so chains of millions of {@code flatMap} do not consume the thread stack.
+ */
+public sealed interface IO<T> permits Pure, Raise, Delay, Mapped, Bind, Handle {
+
+    static <T> IO<T> of(CheckedFunction0<? extends T> supplier) {
+        Objects.requireNonNull(supplier, "supplier is null");
+        return new Delay<>(supplier);
+    }
+
+    static IO<Void> run(CheckedRunnable runnable) {
+        Objects.requireNonNull(runnable, "runnable is null");
+        return new Delay<>(() -> {
+            runnable.run();
+            return null; // null represents the absence of an value, i.e. Void
+        });
+    }
+
+    static <T> IO<T> success(T value) {
+        return new Pure<>(value);
+    }
+
+    static <T> IO<T> failure(Throwable exception) {
+        Objects.requireNonNull(exception, "exception is null");
+        return new Raise<>(exception);
+    }
+
+    static <T> IO<T> fromTry(Try<? extends T> t) {
+        Objects.requireNonNull(t, "t is null");
+        return t.isSuccess() ? new Pure<>(t.get()) : new Raise<>(t.getCause());
+    }
+
+    static <T> IO<T> suspend(Supplier<? extends IO<? extends T>> supplier) {
+        Objects.requireNonNull(supplier, "supplier is null");
+        return new Bind<>(Pure.UNIT, ignored -> supplier.get());
+    }
+
+    static <A, B> IO<B> bracket(IO<? extends A> acquire, CheckedFunction1<? super A, ? extends IO<? extends B>> use, CheckedConsumer<? super A> release) {
+        Objects.requireNonNull(acquire, "acquire is null");
+        Objects.requireNonNull(use, "use is null");
+        Objects.requireNonNull(release, "release is null");
+        return acquire.flatMapTry(resource -> new Bind<Object, B>(Pure.UNIT, ignored -> use.apply(resource))
+                .andFinally(() -> release.accept(resource)));
+    }
+
+    default <U> IO<U> map(Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return new Mapped<>(this, mapper::apply);
+    }
+
+    default <U> IO<U> mapTry(CheckedFunction1<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return new Mapped<>(this, mapper);
+    }
+
+    default <U> IO<U> flatMap(Function<? super T, ? extends IO<? extends U>> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return new Bind<>(this, mapper::apply);
+    }
+
+    default <U> IO<U> flatMapTry(CheckedFunction1<? super T, ? extends IO<? extends U>> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return new Bind<>(this, mapper);
+    }
+
+    default IO<T> recover(Function<? super Throwable, ? extends T> f) {
+        Objects.requireNonNull(f, "f is null");
+        return new Handle<>(this, cause -> new Pure<>(f.apply(cause)));
+    }
+
+    default IO<T> recoverWith(Function<? super Throwable, ? extends IO<? extends T>> f) {
+        Objects.requireNonNull(f, "f is null");
+        return new Handle<>(this, f::apply);
+    }
+
+    default IO<Try<T>> attempt() {
+        return new Handle<>(new Mapped<T, Try<T>>(this, Success::new), cause -> new Pure<>(new Failure<>(cause)));
+    }
+
+    /**
+     * Like try-with-resources, a failing finalizer fails a successful IO and is added as suppressed to the cause of a
+     * failed one. A cause thrown again by every evaluation, as with {@code IO.failure(e)}, receives one suppressed
+     * exception per run. A finalizer failure that is the cause itself or is already suppressed by it is not added.
+     * Fatal errors of the finalizer are rethrown.
+     */
+    default IO<T> andFinally(CheckedRunnable finalizer) {
+        Objects.requireNonNull(finalizer, "finalizer is null");
+        return attempt().flatMapTry(result -> {
+            try {
+                finalizer.run();
+            } catch (Throwable t) {
+                Failure.nonFatal(t);
+                if (result.isSuccess()) throw t;
+                final Throwable cause = result.getCause();
+                if (t != cause && !Arrays.asList(cause.getSuppressed()).contains(t)) cause.addSuppressed(t);
+            }
+            return fromTry(result);
+        });
+    }
+
+    default IO<T> retry(int times) {
+        if (times < 0) throw new IllegalArgumentException("times is negative");
+        return times == 0 ? this : recoverWith(ignored -> retry(times - 1));
+    }
+
+    default Try<T> evaluate() {
+        return IORunLoop.run(this);
+    }
+
+    default CompletableFuture<Try<T>> evaluateAsync(Executor executor) {
+        Objects.requireNonNull(executor, "executor is null");
+        return CompletableFuture.supplyAsync(this::evaluate, executor);
+    }
+}
+
+record Pure<T>(T value) implements IO<T> {
+
+    static final Pure<Object> UNIT = new Pure<>(null);
+}
+
+record Raise<T>(Throwable cause) implements IO<T> {
+}
+
+record Delay<T>(CheckedFunction0<? extends T> thunk) implements IO<T> {
+}
+
+record Mapped<S, T>(IO<S> source, CheckedFunction1<? super S, ? extends T> mapper) implements IO<T> {
+}
+
+record Bind<S, T>(IO<S> source, CheckedFunction1<? super S, ? extends IO<? extends T>> mapper) implements IO<T> {
+}
+
+record Handle<T>(IO<T> source, CheckedFunction1<? super Throwable, ? extends IO<? extends T>> handler) implements IO<T> {
+}
+
+// The pending Mapped/Bind/Handle nodes are the stack frames, no continuation object is allocated per step
+final class IORunLoop {
+
+    private IORunLoop() {
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <T> Try<T> run(IO<T> io) {
+        ArrayDeque<IO<?>> frames = null;
+        IO<?> current = io;
+        Object value = null;
+        Throwable error = null;
+
+        while (true) {
+            if (current != null) {
+                if (current instanceof Pure<?> pure) {
+                    value = pure.value();
+                    current = null;
+                } else if (current instanceof Delay<?> delay) {
+                    current = null;
+                    try {
+                        value = delay.thunk().apply();
+                    } catch (Throwable t) {
+                        error = Failure.nonFatal(t);
+                    }
+                } else if (current instanceof Raise<?> raise) {
+                    error = Failure.nonFatal(raise.cause());
+                    current = null;
+                } else {
+                    if (frames == null) frames = new ArrayDeque<>();
+                    frames.push(current);
+                    current = current instanceof Mapped<?, ?> mapped ? mapped.source()
+                            : current instanceof Bind<?, ?> bind ? bind.source()
+                            : ((Handle<?>) current).source();
+                }
+                continue;
+            }
+
+            IO<?> frame = frames == null ? null : frames.poll();
+            if (error == null) {
+                while (frame instanceof Handle) frame = frames.poll();
+                if (frame == null) return new Success<>((T) value);
+                try {
+                    if (frame instanceof Mapped mapped) {
+                        value = mapped.mapper().apply(value);
+                    } else {
+                        current = Objects.requireNonNull((IO<?>) ((Bind) frame).mapper().apply(value), "mapper returned null");
+                    }
+                } catch (Throwable t) {
+                    error = Failure.nonFatal(t);
+                }
+            } else {
+                while (frame != null && !(frame instanceof Handle)) frame = frames.poll();
+                if (frame == null) return new Failure<>(error);
+                try {
+                    current = Objects.requireNonNull((IO<?>) ((Handle) frame).handler().apply(error), "handler returned null");
+                    error = null;
+                } catch (Throwable t) {
+                    error = Failure.nonFatal(t);
+                }
+            }
+        }
+    }
+}
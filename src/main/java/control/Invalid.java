@@ -2,6 +2,12 @@ package control;
 
 import java.io.Serializable;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 public record Invalid<E, T>(E error) implements Validation<E, T>, Serializable {
 
@@ -27,4 +33,56 @@ public record Invalid<E, T>(E error) implements Validation<E, T>, Serializable {
         return error;
     }
 
-}
\ No newline at end of file
+    @SuppressWarnings("unchecked")
+    @Override
+    public <U> Validation<E, U> map(Function<? super T, ? extends U> f) {
+        Objects.requireNonNull(f, "f is null");
+        return (Validation<E, U>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <U> Validation<E, U> flatMap(Function<? super T, ? extends Validation<E, ? extends U>> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return (Validation<E, U>) this;
+    }
+
+    @Override
+    public <U> Validation<U, T> mapError(Function<? super E, ? extends U> f) {
+        Objects.requireNonNull(f, "f is null");
+        return Validation.invalid(f.apply(error));
+    }
+
+    @Override
+    public <U> U fold(Function<? super E, ? extends U> ifInvalid, Function<? super T, ? extends U> ifValid) {
+        Objects.requireNonNull(ifInvalid, "ifInvalid is null");
+        Objects.requireNonNull(ifValid, "ifValid is null");
+        return ifInvalid.apply(error);
+    }
+
+    @Override
+    public T getOrElseGet(Function<? super E, ? extends T> other) {
+        Objects.requireNonNull(other, "other is null");
+        return other.apply(error);
+    }
+
+    @Override
+    public T getOrElse(T other) {
+        return other;
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action is null");
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return Stream.empty();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.emptySpliterator();
+    }
+}
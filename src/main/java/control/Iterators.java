@@ -3,6 +3,7 @@ package control;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
 import java.util.function.Consumer;
 
 public class Iterators {
@@ -18,6 +19,21 @@ public class Iterators {
         return new SingletonIterator<>(element);
     }
 
+    // Values of the present controls, empty ones are skipped without allocating an iterator per control
+    public static <T> Iterator<T> flatten(Iterable<? extends Control<? extends T>> controls) {
+        Objects.requireNonNull(controls, "controls is null");
+        return new FlattenIterator<>(controls.iterator());
+    }
+
+    public static <T> Iterator<T> successes(Iterator<? extends Try<? extends T>> tries) {
+        Objects.requireNonNull(tries, "tries is null");
+        return new FlattenIterator<>(tries);
+    }
+
+    static <T> Spliterator<T> spliterator(T element) {
+        return new SingletonSpliterator<>(element);
+    }
+
     final static class SingletonIterator<T> implements Iterator<T> {
 
         private final T element;
@@ -81,4 +97,82 @@ public class Iterators {
             return "EmptyIterator";
         }
     }
+
+    final static class FlattenIterator<T> implements Iterator<T> {
+
+        private final Iterator<? extends Control<? extends T>> controls;
+        private Control<? extends T> next;
+
+        FlattenIterator(Iterator<? extends Control<? extends T>> controls) {
+            this.controls = controls;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && controls.hasNext()) {
+                final Control<? extends T> control = controls.next();
+                if (!control.isEmpty()) next = control;
+            }
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final T element = next.get();
+            next = null;
+            return element;
+        }
+
+        @Override
+        public String toString() {
+            return "FlattenIterator";
+        }
+    }
+
+    final static class SingletonSpliterator<T> implements Spliterator<T> {
+
+        private final T element;
+        private boolean consumed;
+
+        SingletonSpliterator(T element) {
+            this.element = element;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (consumed) return false;
+            consumed = true;
+            action.accept(element);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            tryAdvance(action);
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return consumed ? 0 : 1;
+        }
+
+        @Override
+        public int characteristics() {
+            return IMMUTABLE | ORDERED | SIZED | SUBSIZED;
+        }
+
+        @Override
+        public String toString() {
+            return "SingletonSpliterator";
+        }
+    }
 }
@@ -2,6 +2,12 @@ package control;
 
 import java.io.Serializable;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 public record Left<L, R>(L value) implements Either<L, R>, Serializable {
 
@@ -26,4 +32,57 @@ public record Left<L, R>(L value) implements Either<L, R>, Serializable {
     public boolean isRight() {
         return false;
     }
-}
\ No newline at end of file
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <U> Either<L, U> map(Function<? super R, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return (Either<L, U>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <U> Either<L, U> flatMap(Function<? super R, ? extends Either<L, ? extends U>> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return (Either<L, U>) this;
+    }
+
+    @Override
+    public <U> Either<U, R> mapLeft(Function<? super L, ? extends U> leftMapper) {
+        Objects.requireNonNull(leftMapper, "leftMapper is null");
+        return Either.left(leftMapper.apply(value));
+    }
+
+    @Override
+    public <U> U fold(Function<? super L, ? extends U> leftMapper, Function<? super R, ? extends U> rightMapper) {
+        Objects.requireNonNull(leftMapper, "leftMapper is null");
+        Objects.requireNonNull(rightMapper, "rightMapper is null");
+        return leftMapper.apply(value);
+    }
+
+    @Override
+    public R getOrElseGet(Function<? super L, ? extends R> other) {
+        Objects.requireNonNull(other, "other is null");
+        return other.apply(value);
+    }
+
+    @Override
+    public R getOrElse(R other) {
+        return other;
+    }
+
+    @Override
+    public void forEach(Consumer<? super R> action) {
+        Objects.requireNonNull(action, "action is null");
+    }
+
+    @Override
+    public Stream<R> stream() {
+        return Stream.empty();
+    }
+
+    @Override
+    public Spliterator<R> spliterator() {
+        return Spliterators.emptySpliterator();
+    }
+}
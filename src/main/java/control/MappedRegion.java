@@ -0,0 +1,125 @@
+package control;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Memory-mapped file region released as soon as it is closed instead of when the buffer is garbage collected,
+ * to be used with {@link Try#withResources}:
+ * <pre>{@code Try.withResources(() -> MappedRegion.readOnly(path).get()).of(region -> region.buffer().getLong(0))}</pre>
+ * The buffer must not escape the block, accessing it once the region is closed is undefined behaviour.
+ */
+public final class MappedRegion implements AutoCloseable {
+
+    private static final MethodHandle UNMAP = unmapHandle();
+
+    private final MappedByteBuffer buffer;
+    private final FileChannel.MapMode mode;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private MappedRegion(MappedByteBuffer buffer, FileChannel.MapMode mode) {
+        this.buffer = buffer;
+        this.mode = mode;
+    }
+
+    public static Try<MappedRegion> readOnly(Path path) {
+        Objects.requireNonNull(path, "path is null");
+        return Try.of(() -> {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                return map(channel, FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        });
+    }
+
+    public static Try<MappedRegion> readOnly(Path path, long position, long size) {
+        Objects.requireNonNull(path, "path is null");
+        return Try.of(() -> {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                return map(channel, FileChannel.MapMode.READ_ONLY, position, size);
+            }
+        });
+    }
+
+    // The file is created, or grown, so that it covers the mapped region
+    public static Try<MappedRegion> readWrite(Path path, long position, long size) {
+        Objects.requireNonNull(path, "path is null");
+        return Try.of(() -> {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE)) {
+                return map(channel, FileChannel.MapMode.READ_WRITE, position, size);
+            }
+        });
+    }
+
+    // The mapping stays valid once the channel is closed
+    private static MappedRegion map(FileChannel channel, FileChannel.MapMode mode, long position, long size) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("size " + size + " exceeds the maximum mappable region of " + Integer.MAX_VALUE + " bytes");
+        }
+        return new MappedRegion(channel.map(mode, position, size), mode);
+    }
+
+    public MappedByteBuffer buffer() {
+        if (closed.get()) throw new IllegalStateException("region is closed");
+        return buffer;
+    }
+
+    public boolean isReadOnly() {
+        return mode == FileChannel.MapMode.READ_ONLY;
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            // The region is unmapped even when flushing fails, a later close would not try again
+            try {
+                if (!isReadOnly()) buffer.force();
+            } finally {
+                if (UNMAP != null) unmap(buffer);
+            }
+        }
+    }
+
+    private static void unmap(ByteBuffer buffer) {
+        try {
+            UNMAP.invokeExact(buffer);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("unable to unmap region", t);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MappedRegion(" + mode + ", " + buffer.capacity() + " bytes" + (closed.get() ? ", closed)" : ")");
+    }
+
+    // sun.misc.Unsafe#invokeCleaner is the only supported way to unmap before the buffer is collected on Java 17,
+    // without it the region is released by the garbage collector as before
+    private static MethodHandle unmapHandle() {
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
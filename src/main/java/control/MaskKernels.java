@@ -0,0 +1,38 @@
+package control;
+
+/**
+ * Column checks writing one validity bit per row into {@code words}, bit {@code i % 64} of word {@code i / 64} is set
+ * when row {@code i} is valid. Every word covering {@code rows} is overwritten.
+ */
+interface MaskKernels {
+
+    MaskKernels SCALAR = new ScalarMaskKernels();
+
+    // The Vector API is only used when the application runs with --add-modules jdk.incubator.vector
+    MaskKernels BEST = load();
+
+    void intRange(int[] column, int min, int max, long[] words, int rows);
+
+    void longRange(long[] column, long min, long max, long[] words, int rows);
+
+    // NaN is never in range
+    void doubleRange(double[] column, double min, double max, long[] words, int rows);
+
+    void intNotEqual(int[] column, int sentinel, long[] words, int rows);
+
+    void longNotEqual(long[] column, long sentinel, long[] words, int rows);
+
+    // A NaN sentinel matches every NaN
+    void doubleNotEqual(double[] column, double sentinel, long[] words, int rows);
+
+    private static MaskKernels load() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (MaskKernels) Class.forName("control.VectorMaskKernels").getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return SCALAR;
+            }
+        }
+        return SCALAR;
+    }
+}
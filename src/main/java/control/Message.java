@@ -0,0 +1,84 @@
+package control;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Error message rendered on first {@link #toString()} instead of when the error is created, for errors that are
+ * mostly aggregated and dropped without being read:
+ * <pre>{@code
+ * Validation<Message, Integer> age = Validation.invalid(Message.format("field %s must be < %d", "age", 150));
+ * }</pre>
+ * The rendered text is cached. The arguments are kept for as long as the message lives, since equality compares
+ * them, so they should be immutable.
+ * <p>
+ * A message is rendered before being serialized. A formatted message whose arguments are all serializable keeps
+ * its template and arguments, any other message is serialized as its text alone and is then equal only to itself.
+ */
+public final class Message implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String template;
+    private final Object[] args;
+    private final transient Supplier<String> supplier;
+    private volatile String rendered;
+
+    private Message(String template, Object[] args, Supplier<String> supplier, String rendered) {
+        this.template = template;
+        this.args = args;
+        this.supplier = supplier;
+        this.rendered = rendered;
+    }
+
+    // Rendered with String.format, two messages with the same template and arguments are equal
+    public static Message format(String template, Object... args) {
+        Objects.requireNonNull(template, "template is null");
+        Objects.requireNonNull(args, "args is null");
+        return new Message(template, args, null, null);
+    }
+
+    // Equal only to itself
+    public static Message of(Supplier<String> supplier) {
+        Objects.requireNonNull(supplier, "supplier is null");
+        return new Message(null, null, supplier, null);
+    }
+
+    public boolean isRendered() {
+        return rendered != null;
+    }
+
+    @Override
+    public String toString() {
+        String text = rendered;
+        if (text == null) {
+            text = supplier == null ? String.format(template, args) : Objects.requireNonNull(supplier.get(), "message is null");
+            rendered = text;
+        }
+        return text;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof Message other) || template == null || other.template == null) return false;
+        return template.equals(other.template) && Arrays.equals(args, other.args);
+    }
+
+    @Override
+    public int hashCode() {
+        return template == null ? System.identityHashCode(this) : 31 * template.hashCode() + Arrays.hashCode(args);
+    }
+
+    private Object writeReplace() {
+        final String text = toString();
+        if (template != null) {
+            boolean serializable = true;
+            for (Object arg : args) serializable &= arg == null || arg instanceof Serializable;
+            if (serializable) return this;
+        }
+        return new Message(null, null, null, text);
+    }
+}
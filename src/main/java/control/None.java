@@ -2,6 +2,14 @@ package control;
 
 import java.io.Serializable;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 public record None<T>() implements Option<T>, Serializable {
 
@@ -22,4 +30,62 @@ public record None<T>() implements Option<T>, Serializable {
     private Object readResolve() {
         return INSTANCE;
     }
-}
\ No newline at end of file
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <U> Option<U> map(Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return (Option<U>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <U> Option<U> flatMap(Function<? super T, ? extends Option<? extends U>> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return (Option<U>) this;
+    }
+
+    @Override
+    public Option<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return this;
+    }
+
+    @Override
+    public <U> U fold(Supplier<? extends U> ifNone, Function<? super T, ? extends U> f) {
+        Objects.requireNonNull(f, "mapper is null");
+        Objects.requireNonNull(ifNone, "supplier is null");
+        return ifNone.get();
+    }
+
+    @Override
+    public T getOrElse(T other) {
+        return other;
+    }
+
+    @Override
+    public T getOrElse(Supplier<? extends T> supplier) {
+        Objects.requireNonNull(supplier, "supplier is null");
+        return supplier.get();
+    }
+
+    @Override
+    public T getOrNull() {
+        return null;
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action is null");
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return Stream.empty();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.emptySpliterator();
+    }
+}
@@ -0,0 +1,181 @@
+package control;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Column of optional {@code double} values stored in a {@code double[]} plus a presence bitmap, about 8 bytes per entry
+ * instead of a {@code Some} and a {@code Double} per present entry in a {@code List<Option<Double>>}. Only
+ * {@link #get(int)} boxes, the primitive accessors and the bulk operations do not.
+ * <p>
+ * The column grows with {@link #append(double)}, entries can also be set in place. It is not thread-safe.
+ */
+public final class OptionDoubleColumn {
+
+    private double[] values;
+    private long[] present;
+    private int size;
+
+    private OptionDoubleColumn(double[] values, long[] present, int size) {
+        this.values = values;
+        this.present = present;
+        this.size = size;
+    }
+
+    public static OptionDoubleColumn create() {
+        return withCapacity(16);
+    }
+
+    public static OptionDoubleColumn withCapacity(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("capacity is negative");
+        return new OptionDoubleColumn(new double[capacity], new long[words(capacity)], 0);
+    }
+
+    // size empty entries
+    public static OptionDoubleColumn ofSize(int size) {
+        if (size < 0) throw new IllegalArgumentException("size is negative");
+        return new OptionDoubleColumn(new double[size], new long[words(size)], size);
+    }
+
+    public static OptionDoubleColumn of(double... values) {
+        Objects.requireNonNull(values, "values is null");
+        final long[] present = new long[words(values.length)];
+        Arrays.fill(present, -1L);
+        final OptionDoubleColumn column = new OptionDoubleColumn(values.clone(), present, values.length);
+        column.clearTail();
+        return column;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int presentCount() {
+        int count = 0;
+        for (long word : present) count += Long.bitCount(word);
+        return count;
+    }
+
+    public boolean isPresent(int index) {
+        Objects.checkIndex(index, size);
+        return (present[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public Option<Double> get(int index) {
+        return isPresent(index) ? Option.some(values[index]) : Option.none();
+    }
+
+    public double getOrElse(int index, double other) {
+        return isPresent(index) ? values[index] : other;
+    }
+
+    public OptionDoubleColumn append(double value) {
+        ensureCapacity(size + 1);
+        values[size] = value;
+        present[size >>> 6] |= 1L << size;
+        size++;
+        return this;
+    }
+
+    public OptionDoubleColumn appendEmpty() {
+        ensureCapacity(size + 1);
+        values[size] = 0;
+        size++;
+        return this;
+    }
+
+    public OptionDoubleColumn append(Option<Double> value) {
+        Objects.requireNonNull(value, "value is null");
+        return value.isEmpty() ? appendEmpty() : append(value.get().doubleValue());
+    }
+
+    public void set(int index, double value) {
+        Objects.checkIndex(index, size);
+        values[index] = value;
+        present[index >>> 6] |= 1L << index;
+    }
+
+    public void clear(int index) {
+        Objects.checkIndex(index, size);
+        values[index] = 0;
+        present[index >>> 6] &= ~(1L << index);
+    }
+
+    // Empty entries stay empty
+    public OptionDoubleColumn map(DoubleUnaryOperator mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        final double[] mapped = new double[size];
+        for (int w = 0; w < words(size); w++) {
+            long bits = present[w];
+            while (bits != 0) {
+                final int i = (w << 6) + Long.numberOfTrailingZeros(bits);
+                mapped[i] = mapper.applyAsDouble(values[i]);
+                bits &= bits - 1;
+            }
+        }
+        return new OptionDoubleColumn(mapped, Arrays.copyOf(present, words(size)), size);
+    }
+
+    // Same size and indexes, the present values failing the predicate become empty
+    public OptionDoubleColumn filter(DoublePredicate predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        final double[] kept = new double[size];
+        final long[] keptPresent = new long[words(size)];
+        for (int w = 0; w < keptPresent.length; w++) {
+            long bits = present[w];
+            while (bits != 0) {
+                final int i = (w << 6) + Long.numberOfTrailingZeros(bits);
+                if (predicate.test(values[i])) {
+                    kept[i] = values[i];
+                    keptPresent[w] |= 1L << i;
+                }
+                bits &= bits - 1;
+            }
+        }
+        return new OptionDoubleColumn(kept, keptPresent, size);
+    }
+
+    // Empty entries hold zero, so the sum runs over the whole array without looking at the bitmap
+    public double sum() {
+        double sum = 0;
+        for (int i = 0; i < size; i++) sum += values[i];
+        return sum;
+    }
+
+    public double[] toArray(double empty) {
+        final double[] array = Arrays.copyOf(values, size);
+        for (int i = 0; i < size; i++) {
+            if ((present[i >>> 6] & (1L << i)) == 0) array[i] = empty;
+        }
+        return array;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("OptionDoubleColumn[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) builder.append(", ");
+            builder.append(isPresent(i) ? String.valueOf(values[i]) : "None");
+        }
+        return builder.append(']').toString();
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            final int grown = Math.max(capacity, values.length + (values.length >> 1) + 1);
+            values = Arrays.copyOf(values, grown);
+            present = Arrays.copyOf(present, words(grown));
+        }
+    }
+
+    // Bits past the size are kept clear so that counting the bitmap counts present entries only
+    private void clearTail() {
+        if ((size & 63) != 0) present[size >>> 6] &= (1L << size) - 1;
+    }
+
+    private static int words(int size) {
+        return (size + 63) >>> 6;
+    }
+}
@@ -0,0 +1,115 @@
+package control;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Pre-built chain of {@link Option} operations, built once and applied to many values:
+ * <pre>{@code
+ * OptionFn<String, Integer> length = OptionFn.<String>identity().map(String::trim).filter(s -> !s.isEmpty()).map(String::length);
+ * Option<Integer> result = length.apply(" value ");
+ * }</pre>
+ * The steps run in a single loop over the current value, the only object allocated per application is the
+ * resulting {@code Some}. Each call to a builder method returns a new pipeline, an {@code OptionFn} is immutable
+ * and can be shared between threads.
+ */
+public final class OptionFn<T, R> implements Function<T, Option<R>> {
+
+    private static final byte MAP = 0;
+    private static final byte FILTER = 1;
+    private static final byte FLAT_MAP = 2;
+    private static final byte OR_ELSE = 3;
+
+    private static final OptionFn<?, ?> IDENTITY = new OptionFn<>(new byte[0], new Object[0]);
+
+    private final byte[] kinds;
+    private final Object[] steps;
+
+    private OptionFn(byte[] kinds, Object[] steps) {
+        this.kinds = kinds;
+        this.steps = steps;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> OptionFn<T, T> identity() {
+        return (OptionFn<T, T>) IDENTITY;
+    }
+
+    public static <T, R> OptionFn<T, R> of(Function<? super T, ? extends R> mapper) {
+        return OptionFn.<T>identity().map(mapper);
+    }
+
+    public <U> OptionFn<T, U> map(Function<? super R, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return append(MAP, mapper);
+    }
+
+    public OptionFn<T, R> filter(Predicate<? super R> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return append(FILTER, predicate);
+    }
+
+    public OptionFn<T, R> filterNot(Predicate<? super R> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return append(FILTER, predicate.negate());
+    }
+
+    public <U> OptionFn<T, U> flatMap(Function<? super R, ? extends Option<? extends U>> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return append(FLAT_MAP, mapper);
+    }
+
+    public OptionFn<T, R> orElse(Supplier<? extends Option<? extends R>> supplier) {
+        Objects.requireNonNull(supplier, "supplier is null");
+        return append(OR_ELSE, supplier);
+    }
+
+    // A null value is treated as None, like Option.ofNullable
+    @Override
+    public Option<R> apply(T value) {
+        return run(value);
+    }
+
+    public Option<R> applyOption(Option<? extends T> option) {
+        Objects.requireNonNull(option, "option is null");
+        return run(option.orNull());
+    }
+
+    // null stands for None while running, Some never holds null
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Option<R> run(Object value) {
+        final byte[] kinds = this.kinds;
+        final Object[] steps = this.steps;
+        for (int i = 0; i < kinds.length; i++) {
+            final byte kind = kinds[i];
+            if (value != null) {
+                if (kind == MAP) {
+                    value = Objects.requireNonNull(((Function) steps[i]).apply(value), "value is null");
+                } else if (kind == FILTER) {
+                    if (!((Predicate) steps[i]).test(value)) value = null;
+                } else if (kind == FLAT_MAP) {
+                    value = ((Option<?>) ((Function) steps[i]).apply(value)).orNull();
+                }
+            } else if (kind == OR_ELSE) {
+                value = ((Option<?>) ((Supplier) steps[i]).get()).orNull();
+            }
+        }
+        return value == null ? Option.none() : new Some<>((R) value);
+    }
+
+    private <U> OptionFn<T, U> append(byte kind, Object step) {
+        final byte[] nextKinds = Arrays.copyOf(kinds, kinds.length + 1);
+        final Object[] nextSteps = Arrays.copyOf(steps, steps.length + 1);
+        nextKinds[kinds.length] = kind;
+        nextSteps[steps.length] = step;
+        return new OptionFn<>(nextKinds, nextSteps);
+    }
+
+    @Override
+    public String toString() {
+        return "OptionFn(" + kinds.length + " steps)";
+    }
+}
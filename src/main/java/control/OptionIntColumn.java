@@ -0,0 +1,181 @@
+package control;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Column of optional {@code int} values stored in a {@code int[]} plus a presence bitmap, about 4 bytes per entry
+ * instead of a {@code Some} and a {@code Integer} per present entry in a {@code List<Option<Integer>>}. Only
+ * {@link #get(int)} boxes, the primitive accessors and the bulk operations do not.
+ * <p>
+ * The column grows with {@link #append(int)}, entries can also be set in place. It is not thread-safe.
+ */
+public final class OptionIntColumn {
+
+    private int[] values;
+    private long[] present;
+    private int size;
+
+    private OptionIntColumn(int[] values, long[] present, int size) {
+        this.values = values;
+        this.present = present;
+        this.size = size;
+    }
+
+    public static OptionIntColumn create() {
+        return withCapacity(16);
+    }
+
+    public static OptionIntColumn withCapacity(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("capacity is negative");
+        return new OptionIntColumn(new int[capacity], new long[words(capacity)], 0);
+    }
+
+    // size empty entries
+    public static OptionIntColumn ofSize(int size) {
+        if (size < 0) throw new IllegalArgumentException("size is negative");
+        return new OptionIntColumn(new int[size], new long[words(size)], size);
+    }
+
+    public static OptionIntColumn of(int... values) {
+        Objects.requireNonNull(values, "values is null");
+        final long[] present = new long[words(values.length)];
+        Arrays.fill(present, -1L);
+        final OptionIntColumn column = new OptionIntColumn(values.clone(), present, values.length);
+        column.clearTail();
+        return column;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int presentCount() {
+        int count = 0;
+        for (long word : present) count += Long.bitCount(word);
+        return count;
+    }
+
+    public boolean isPresent(int index) {
+        Objects.checkIndex(index, size);
+        return (present[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public Option<Integer> get(int index) {
+        return isPresent(index) ? Option.some(values[index]) : Option.none();
+    }
+
+    public int getOrElse(int index, int other) {
+        return isPresent(index) ? values[index] : other;
+    }
+
+    public OptionIntColumn append(int value) {
+        ensureCapacity(size + 1);
+        values[size] = value;
+        present[size >>> 6] |= 1L << size;
+        size++;
+        return this;
+    }
+
+    public OptionIntColumn appendEmpty() {
+        ensureCapacity(size + 1);
+        values[size] = 0;
+        size++;
+        return this;
+    }
+
+    public OptionIntColumn append(Option<Integer> value) {
+        Objects.requireNonNull(value, "value is null");
+        return value.isEmpty() ? appendEmpty() : append(value.get().intValue());
+    }
+
+    public void set(int index, int value) {
+        Objects.checkIndex(index, size);
+        values[index] = value;
+        present[index >>> 6] |= 1L << index;
+    }
+
+    public void clear(int index) {
+        Objects.checkIndex(index, size);
+        values[index] = 0;
+        present[index >>> 6] &= ~(1L << index);
+    }
+
+    // Empty entries stay empty
+    public OptionIntColumn map(IntUnaryOperator mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        final int[] mapped = new int[size];
+        for (int w = 0; w < words(size); w++) {
+            long bits = present[w];
+            while (bits != 0) {
+                final int i = (w << 6) + Long.numberOfTrailingZeros(bits);
+                mapped[i] = mapper.applyAsInt(values[i]);
+                bits &= bits - 1;
+            }
+        }
+        return new OptionIntColumn(mapped, Arrays.copyOf(present, words(size)), size);
+    }
+
+    // Same size and indexes, the present values failing the predicate become empty
+    public OptionIntColumn filter(IntPredicate predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        final int[] kept = new int[size];
+        final long[] keptPresent = new long[words(size)];
+        for (int w = 0; w < keptPresent.length; w++) {
+            long bits = present[w];
+            while (bits != 0) {
+                final int i = (w << 6) + Long.numberOfTrailingZeros(bits);
+                if (predicate.test(values[i])) {
+                    kept[i] = values[i];
+                    keptPresent[w] |= 1L << i;
+                }
+                bits &= bits - 1;
+            }
+        }
+        return new OptionIntColumn(kept, keptPresent, size);
+    }
+
+    // Empty entries hold zero, so the sum runs over the whole array without looking at the bitmap
+    public long sum() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) sum += values[i];
+        return sum;
+    }
+
+    public int[] toArray(int empty) {
+        final int[] array = Arrays.copyOf(values, size);
+        for (int i = 0; i < size; i++) {
+            if ((present[i >>> 6] & (1L << i)) == 0) array[i] = empty;
+        }
+        return array;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("OptionIntColumn[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) builder.append(", ");
+            builder.append(isPresent(i) ? String.valueOf(values[i]) : "None");
+        }
+        return builder.append(']').toString();
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            final int grown = Math.max(capacity, values.length + (values.length >> 1) + 1);
+            values = Arrays.copyOf(values, grown);
+            present = Arrays.copyOf(present, words(grown));
+        }
+    }
+
+    // Bits past the size are kept clear so that counting the bitmap counts present entries only
+    private void clearTail() {
+        if ((size & 63) != 0) present[size >>> 6] &= (1L << size) - 1;
+    }
+
+    private static int words(int size) {
+        return (size + 63) >>> 6;
+    }
+}
@@ -0,0 +1,161 @@
+package control;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Open addressing hash map answering lookups with an {@code Option}. Each value is wrapped in a {@code Some} when it
+ * is put, {@link #get(Object)} hands back that same instance and a miss returns the shared {@code None}, so lookups
+ * never allocate, unlike {@code Option.ofNullable(map.get(key))}.
+ * <p>
+ * Keys and values can not be null. The map is not thread-safe, once built and safely published it can be read by
+ * any number of threads.
+ */
+public final class OptionMap<K, V> {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private Object[] keys;
+    private Some<V>[] values;
+    private int size;
+
+    private OptionMap(int capacity) {
+        allocate(capacity);
+    }
+
+    public static <K, V> OptionMap<K, V> create() {
+        return new OptionMap<>(MIN_CAPACITY);
+    }
+
+    // Sized to hold expectedSize entries without resizing
+    public static <K, V> OptionMap<K, V> withExpectedSize(int expectedSize) {
+        if (expectedSize < 0) throw new IllegalArgumentException("expectedSize is negative");
+        if (expectedSize > 1 << 29) throw new IllegalArgumentException("expectedSize is too large");
+        return new OptionMap<>(capacityFor(expectedSize));
+    }
+
+    public static <K, V> OptionMap<K, V> of(Map<? extends K, ? extends V> map) {
+        Objects.requireNonNull(map, "map is null");
+        final OptionMap<K, V> optionMap = withExpectedSize(map.size());
+        map.forEach(optionMap::put);
+        return optionMap;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Option<V> get(Object key) {
+        Objects.requireNonNull(key, "key is null");
+        final Object[] keys = this.keys;
+        final int mask = keys.length - 1;
+        for (int i = index(key, mask); ; i = (i + 1) & mask) {
+            final Object candidate = keys[i];
+            if (candidate == null) return (Option<V>) None.INSTANCE;
+            if (candidate.equals(key)) return values[i];
+        }
+    }
+
+    public boolean containsKey(Object key) {
+        return !get(key).isEmpty();
+    }
+
+    // Returns the previous value of the key
+    @SuppressWarnings("unchecked")
+    public Option<V> put(K key, V value) {
+        Objects.requireNonNull(key, "key is null");
+        Objects.requireNonNull(value, "value is null");
+        if ((size + 1) * 2 > keys.length) allocate(keys.length * 2);
+        final int mask = keys.length - 1;
+        int i = index(key, mask);
+        while (keys[i] != null) {
+            if (keys[i].equals(key)) {
+                final Some<V> previous = values[i];
+                values[i] = new Some<>(value);
+                return previous;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = new Some<>(value);
+        size++;
+        return (Option<V>) None.INSTANCE;
+    }
+
+    // Returns the removed value, the following entries of the probe sequence are shifted back so no tombstone is left
+    @SuppressWarnings("unchecked")
+    public Option<V> remove(Object key) {
+        Objects.requireNonNull(key, "key is null");
+        final int mask = keys.length - 1;
+        int i = index(key, mask);
+        while (keys[i] != null && !keys[i].equals(key)) i = (i + 1) & mask;
+        if (keys[i] == null) return (Option<V>) None.INSTANCE;
+
+        final Some<V> removed = values[i];
+        for (int j = (i + 1) & mask; keys[j] != null; j = (j + 1) & mask) {
+            final int ideal = index(keys[j], mask);
+            if (((j - ideal) & mask) >= ((j - i) & mask)) {
+                keys[i] = keys[j];
+                values[i] = values[j];
+                i = j;
+            }
+        }
+        keys[i] = null;
+        values[i] = null;
+        size--;
+        return removed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        Objects.requireNonNull(action, "action is null");
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) action.accept((K) keys[i], values[i].value());
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("OptionMap{");
+        forEach((key, value) -> {
+            if (builder.length() > 10) builder.append(", ");
+            builder.append(key).append('=').append(value);
+        });
+        return builder.append('}').toString();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void allocate(int capacity) {
+        final Object[] oldKeys = keys;
+        final Some<V>[] oldValues = values;
+        keys = new Object[capacity];
+        values = new Some[capacity];
+        if (oldKeys == null) return;
+        final int mask = capacity - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] == null) continue;
+            int i = index(oldKeys[j], mask);
+            while (keys[i] != null) i = (i + 1) & mask;
+            keys[i] = oldKeys[j];
+            values[i] = oldValues[j];
+        }
+    }
+
+    // Kept at most half full, short probe sequences matter more than memory for lookup tables
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2L) capacity <<= 1;
+        return capacity;
+    }
+
+    private static int index(Object key, int mask) {
+        final int h = key.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,198 @@
+package control;
+
+import control.func.CheckedFunction0;
+import control.func.CheckedPredicate;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bounded pool of resources to be used with {@link Try#withResources}, closing a borrowed {@link Pooled}
+ * gives the resource back to the pool instead of closing it:
+ * <pre>{@code Try.withResources(() -> pool.borrow().get()).of(pooled -> pooled.get().query())}</pre>
+ * Borrowing never blocks on a monitor, the only suspension point is waiting for a free slot.
+ */
+public final class ResourcePool<T extends AutoCloseable> implements AutoCloseable {
+
+    private final CheckedFunction0<? extends T> factory;
+    private final CheckedPredicate<? super T> validator;
+    private final long maxIdleNanos;
+    private final Semaphore permits;
+    private final Deque<Idle<T>> idle = new ConcurrentLinkedDeque<>();
+    private volatile boolean closed;
+
+    private ResourcePool(CheckedFunction0<? extends T> factory, int maxSize, long maxIdleNanos, CheckedPredicate<? super T> validator) {
+        this.factory = factory;
+        this.validator = validator;
+        this.maxIdleNanos = maxIdleNanos;
+        this.permits = new Semaphore(maxSize);
+    }
+
+    public static <T extends AutoCloseable> ResourcePool<T> of(CheckedFunction0<? extends T> factory, int maxSize) {
+        Objects.requireNonNull(factory, "factory is null");
+        if (maxSize <= 0) throw new IllegalArgumentException("maxSize must be positive");
+        return new ResourcePool<>(factory, maxSize, Long.MAX_VALUE, resource -> true);
+    }
+
+    public static <T extends AutoCloseable> ResourcePool<T> of(CheckedFunction0<? extends T> factory, int maxSize, Duration maxIdle, CheckedPredicate<? super T> validator) {
+        Objects.requireNonNull(factory, "factory is null");
+        Objects.requireNonNull(maxIdle, "maxIdle is null");
+        Objects.requireNonNull(validator, "validator is null");
+        if (maxSize <= 0) throw new IllegalArgumentException("maxSize must be positive");
+        if (maxIdle.isNegative() || maxIdle.isZero()) throw new IllegalArgumentException("maxIdle must be positive");
+        return new ResourcePool<>(factory, maxSize, saturatedNanos(maxIdle), validator);
+    }
+
+    public Try<Pooled<T>> borrow() {
+        if (closed) return Try.failure(new IllegalStateException("pool is closed"));
+        return Try.run(permits::acquire).flatMap(ignored -> take());
+    }
+
+    public Try<Pooled<T>> borrow(Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout is null");
+        if (closed) return Try.failure(new IllegalStateException("pool is closed"));
+        return Try.of(() -> permits.tryAcquire(saturatedNanos(timeout), TimeUnit.NANOSECONDS))
+                .flatMap(acquired -> acquired ? take() : Try.failure(new TimeoutException("no resource available within " + timeout)));
+    }
+
+    private Try<Pooled<T>> take() {
+        try {
+            final long now = System.nanoTime();
+            evictExpired(now);
+            Idle<T> entry;
+            while ((entry = idle.pollFirst()) != null) {
+                if (now - entry.since <= maxIdleNanos && isValid(entry.resource)) {
+                    return Try.success(new Pooled<>(this, entry.resource));
+                }
+                closeQuietly(entry.resource);
+            }
+            final T created = Objects.requireNonNull(factory.apply(), "factory returned null");
+            final boolean valid;
+            try {
+                valid = validator.test(created);
+            } catch (Throwable t) {
+                closeQuietly(created);
+                throw t;
+            }
+            if (!valid) {
+                closeQuietly(created);
+                throw new IllegalStateException("created resource failed validation");
+            }
+            return Try.success(new Pooled<>(this, created));
+        } catch (Throwable t) {
+            permits.release();
+            return Try.failure(t);
+        }
+    }
+
+    private boolean isValid(T resource) {
+        try {
+            return validator.test(resource);
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    private void evictExpired(long now) {
+        Idle<T> last;
+        while ((last = idle.peekLast()) != null && now - last.since > maxIdleNanos) {
+            if (idle.removeLastOccurrence(last)) closeQuietly(last.resource);
+        }
+    }
+
+    // A resource leaving the pool is closed quietly, like a discarded idle one
+    private void release(T resource, boolean broken) {
+        try {
+            if (broken || closed) {
+                closeQuietly(resource);
+            } else {
+                idle.offerFirst(new Idle<>(resource, System.nanoTime()));
+                if (closed) closeIdle();
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void closeIdle() {
+        Idle<T> entry;
+        while ((entry = idle.pollFirst()) != null) {
+            closeQuietly(entry.resource);
+        }
+    }
+
+    // Resources still borrowed are closed when they are given back
+    @Override
+    public void close() {
+        closed = true;
+        closeIdle();
+    }
+
+    private static void closeQuietly(AutoCloseable resource) {
+        try {
+            resource.close();
+        } catch (Throwable ignored) {
+            // Discarded resource, nothing to report to the borrower
+        }
+    }
+
+    private static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    public static final class Pooled<T extends AutoCloseable> implements AutoCloseable {
+
+        private final ResourcePool<T> pool;
+        private final T resource;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private volatile boolean broken;
+
+        private Pooled(ResourcePool<T> pool, T resource) {
+            this.pool = pool;
+            this.resource = resource;
+        }
+
+        public T get() {
+            if (released.get()) throw new IllegalStateException("resource has been given back to the pool");
+            return resource;
+        }
+
+        // The resource will be closed instead of being given back to the pool
+        public void invalidate() {
+            broken = true;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                pool.release(resource, broken);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Pooled(" + resource + ")";
+        }
+    }
+
+    private static final class Idle<T> {
+
+        final T resource;
+        final long since;
+
+        Idle(T resource, long since) {
+            this.resource = resource;
+            this.since = since;
+        }
+    }
+}
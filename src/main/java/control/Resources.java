@@ -0,0 +1,93 @@
+package control;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
+
+// Closes acquired resources in reverse order with the same exception semantics as try-with-resources
+final class Resources {
+
+    private final AutoCloseable[] resources;
+    private int size;
+
+    Resources(int capacity) {
+        this.resources = new AutoCloseable[capacity];
+    }
+
+    <T extends AutoCloseable> T add(T resource) {
+        resources[size++] = resource;
+        return resource;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T extends AutoCloseable> List<T> acquired() {
+        return (List<T>) Collections.unmodifiableList(Arrays.asList(resources).subList(0, size));
+    }
+
+    void close() throws Throwable {
+        final Throwable failure = closeAll(null);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    Throwable closeSuppressed(Throwable primary) {
+        return closeAll(primary);
+    }
+
+    <T> Stream<T> closeOnClose(Stream<T> stream) {
+        Objects.requireNonNull(stream, "stream is null");
+        return stream.onClose(() -> {
+            final Throwable failure = closeAll(null);
+            if (failure != null) {
+                sneakyThrow(failure);
+            }
+        });
+    }
+
+    // Resources stay open until the stage completes, cancelling the returned future cancels the stage
+    <T> CompletableFuture<Try<T>> closeOnComplete(CompletionStage<? extends T> stage) {
+        Objects.requireNonNull(stage, "stage is null");
+        final CompletableFuture<? extends T> future = stage.toCompletableFuture();
+        final CompletableFuture<Try<T>> result = new CompletableFuture<>();
+        result.whenComplete((ignored, throwable) -> {
+            if (result.isCancelled()) future.cancel(true);
+        });
+        future.whenComplete((value, throwable) -> {
+            final Throwable failure = closeAll(throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause()
+                    : throwable);
+            try {
+                result.complete(failure == null ? new Success<>(value) : new Failure<>(failure));
+            } catch (Throwable fatal) {
+                result.completeExceptionally(fatal);
+            }
+        });
+        return result;
+    }
+
+    private Throwable closeAll(Throwable primary) {
+        for (int i = size - 1; i >= 0; i--) {
+            final AutoCloseable resource = resources[i];
+            if (resource == null) continue;
+            try {
+                resource.close();
+            } catch (Throwable t) {
+                if (primary == null) primary = t;
+                else if (primary != t) primary.addSuppressed(t);
+            }
+        }
+        size = 0;
+        return primary;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> void sneakyThrow(Throwable t) throws T {
+        throw (T) t;
+    }
+}
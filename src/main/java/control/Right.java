@@ -2,6 +2,11 @@ package control;
 
 import java.io.Serializable;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 public record Right<L, R>(R value) implements Either<L, R>, Serializable {
 
@@ -26,4 +31,58 @@ public record Right<L, R>(R value) implements Either<L, R>, Serializable {
     public boolean isRight() {
         return true;
     }
-}
\ No newline at end of file
+
+    @Override
+    public <U> Either<L, U> map(Function<? super R, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return Either.right(mapper.apply(value));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <U> Either<L, U> flatMap(Function<? super R, ? extends Either<L, ? extends U>> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return (Either<L, U>) mapper.apply(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <U> Either<U, R> mapLeft(Function<? super L, ? extends U> leftMapper) {
+        Objects.requireNonNull(leftMapper, "leftMapper is null");
+        return (Either<U, R>) this;
+    }
+
+    @Override
+    public <U> U fold(Function<? super L, ? extends U> leftMapper, Function<? super R, ? extends U> rightMapper) {
+        Objects.requireNonNull(leftMapper, "leftMapper is null");
+        Objects.requireNonNull(rightMapper, "rightMapper is null");
+        return rightMapper.apply(value);
+    }
+
+    @Override
+    public R getOrElseGet(Function<? super L, ? extends R> other) {
+        Objects.requireNonNull(other, "other is null");
+        return value;
+    }
+
+    @Override
+    public R getOrElse(R other) {
+        return value;
+    }
+
+    @Override
+    public void forEach(Consumer<? super R> action) {
+        Objects.requireNonNull(action, "action is null");
+        action.accept(value);
+    }
+
+    @Override
+    public Stream<R> stream() {
+        return Stream.of(value);
+    }
+
+    @Override
+    public Spliterator<R> spliterator() {
+        return Iterators.spliterator(value);
+    }
+}
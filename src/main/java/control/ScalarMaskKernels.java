@@ -0,0 +1,81 @@
+package control;
+
+final class ScalarMaskKernels implements MaskKernels {
+
+    @Override
+    public void intRange(int[] column, int min, int max, long[] words, int rows) {
+        for (int w = 0, base = 0; base < rows; w++, base += 64) {
+            final int end = Math.min(64, rows - base);
+            long word = 0;
+            for (int bit = 0; bit < end; bit++) {
+                final int value = column[base + bit];
+                if (value >= min && value <= max) word |= 1L << bit;
+            }
+            words[w] = word;
+        }
+    }
+
+    @Override
+    public void longRange(long[] column, long min, long max, long[] words, int rows) {
+        for (int w = 0, base = 0; base < rows; w++, base += 64) {
+            final int end = Math.min(64, rows - base);
+            long word = 0;
+            for (int bit = 0; bit < end; bit++) {
+                final long value = column[base + bit];
+                if (value >= min && value <= max) word |= 1L << bit;
+            }
+            words[w] = word;
+        }
+    }
+
+    @Override
+    public void doubleRange(double[] column, double min, double max, long[] words, int rows) {
+        for (int w = 0, base = 0; base < rows; w++, base += 64) {
+            final int end = Math.min(64, rows - base);
+            long word = 0;
+            for (int bit = 0; bit < end; bit++) {
+                final double value = column[base + bit];
+                if (value >= min && value <= max) word |= 1L << bit;
+            }
+            words[w] = word;
+        }
+    }
+
+    @Override
+    public void intNotEqual(int[] column, int sentinel, long[] words, int rows) {
+        for (int w = 0, base = 0; base < rows; w++, base += 64) {
+            final int end = Math.min(64, rows - base);
+            long word = 0;
+            for (int bit = 0; bit < end; bit++) {
+                if (column[base + bit] != sentinel) word |= 1L << bit;
+            }
+            words[w] = word;
+        }
+    }
+
+    @Override
+    public void longNotEqual(long[] column, long sentinel, long[] words, int rows) {
+        for (int w = 0, base = 0; base < rows; w++, base += 64) {
+            final int end = Math.min(64, rows - base);
+            long word = 0;
+            for (int bit = 0; bit < end; bit++) {
+                if (column[base + bit] != sentinel) word |= 1L << bit;
+            }
+            words[w] = word;
+        }
+    }
+
+    @Override
+    public void doubleNotEqual(double[] column, double sentinel, long[] words, int rows) {
+        final boolean nan = Double.isNaN(sentinel);
+        for (int w = 0, base = 0; base < rows; w++, base += 64) {
+            final int end = Math.min(64, rows - base);
+            long word = 0;
+            for (int bit = 0; bit < end; bit++) {
+                final double value = column[base + bit];
+                if (nan ? value == value : value != sentinel) word |= 1L << bit;
+            }
+            words[w] = word;
+        }
+    }
+}
@@ -1,6 +1,13 @@
 package control;
 
 import java.io.Serializable;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 public record Some<T>(T value) implements Option<T>, Serializable {
 
@@ -15,4 +22,62 @@ public record Some<T>(T value) implements Option<T>, Serializable {
     public boolean isEmpty() {
         return false;
     }
+
+    @Override
+    public <U> Option<U> map(Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return Option.some(mapper.apply(value));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <U> Option<U> flatMap(Function<? super T, ? extends Option<? extends U>> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return (Option<U>) mapper.apply(value);
+    }
+
+    @Override
+    public Option<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return predicate.test(value) ? this : Option.none();
+    }
+
+    @Override
+    public <U> U fold(Supplier<? extends U> ifNone, Function<? super T, ? extends U> f) {
+        Objects.requireNonNull(f, "mapper is null");
+        Objects.requireNonNull(ifNone, "supplier is null");
+        return Objects.requireNonNull(f.apply(value), "value is null");
+    }
+
+    @Override
+    public T getOrElse(T other) {
+        return value;
+    }
+
+    @Override
+    public T getOrElse(Supplier<? extends T> supplier) {
+        Objects.requireNonNull(supplier, "supplier is null");
+        return value;
+    }
+
+    @Override
+    public T getOrNull() {
+        return value;
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action is null");
+        action.accept(value);
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return Stream.of(value);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Iterators.spliterator(value);
+    }
 }
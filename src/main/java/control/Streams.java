@@ -0,0 +1,156 @@
+package control;
+
+import control.func.CheckedFunction1;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link Stream} operations for controls that stop pulling from the source at the first failure, instead of
+ * throwing out of a lambda to end the stream.
+ */
+public class Streams {
+
+    // Successes in order, then the first failure as last element, the rest of the source is never read
+    public static <T, R> Stream<Try<R>> mapTry(Stream<? extends T> stream, CheckedFunction1<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(stream, "stream is null");
+        Objects.requireNonNull(mapper, "mapper is null");
+        return StreamSupport.stream(new MapTrySpliterator<T, R>(stream.spliterator(), mapper), false).onClose(stream::close);
+    }
+
+    // Like Try.sequence but stops reading the stream at the first failure
+    public static <T> Try<List<T>> collectTry(Stream<? extends Try<? extends T>> stream) {
+        Objects.requireNonNull(stream, "stream is null");
+        final Iterator<? extends Try<? extends T>> iterator = stream.iterator();
+        final List<T> values = new ArrayList<>();
+        while (iterator.hasNext()) {
+            final Try<? extends T> value = iterator.next();
+            if (value.isFailure()) return Try.failure(value.getCause());
+            values.add(value.get());
+        }
+        return Try.success(values);
+    }
+
+    // Emits the valid values and hands every error to the sink as the stream is consumed
+    public static <E, T> Stream<T> collectValid(Stream<? extends Validation<? extends E, ? extends T>> stream, Consumer<? super E> errors) {
+        Objects.requireNonNull(stream, "stream is null");
+        Objects.requireNonNull(errors, "errors is null");
+        return stream.filter(validation -> {
+            if (validation.isInvalid()) errors.accept(validation.getError());
+            return validation.isValid();
+        }).map(Validation::get);
+    }
+
+    /**
+     * Same contract as {@link #mapTry(Stream, CheckedFunction1)} with up to {@code maxConcurrency} elements mapped at
+     * the same time on the executor. Results keep the order of the source. Once the first failure is emitted, or the
+     * stream is closed, the mappings not yet started are skipped and the running ones are interrupted.
+     */
+    public static <T, R> Stream<Try<R>> mapTryConcurrent(Stream<? extends T> stream, int maxConcurrency, Executor executor, CheckedFunction1<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(stream, "stream is null");
+        Objects.requireNonNull(executor, "executor is null");
+        Objects.requireNonNull(mapper, "mapper is null");
+        if (maxConcurrency <= 0) throw new IllegalArgumentException("maxConcurrency must be positive");
+        final ConcurrentMapTrySpliterator<T, R> spliterator = new ConcurrentMapTrySpliterator<>(stream.spliterator(), maxConcurrency, executor, mapper);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::cancel).onClose(stream::close);
+    }
+
+    final static class MapTrySpliterator<T, R> extends Spliterators.AbstractSpliterator<Try<R>> {
+
+        private final Spliterator<? extends T> source;
+        private final CheckedFunction1<? super T, ? extends R> mapper;
+        private boolean failed;
+
+        MapTrySpliterator(Spliterator<? extends T> source, CheckedFunction1<? super T, ? extends R> mapper) {
+            super(source.estimateSize(), source.characteristics() & Spliterator.ORDERED);
+            this.source = source;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Try<R>> action) {
+            if (failed) return false;
+            return source.tryAdvance(value -> {
+                final Try<R> result = Try.<R>of(() -> mapper.apply(value));
+                failed = result.isFailure();
+                action.accept(result);
+            });
+        }
+    }
+
+    final static class ConcurrentMapTrySpliterator<T, R> extends Spliterators.AbstractSpliterator<Try<R>> {
+
+        private final Spliterator<? extends T> source;
+        private final int maxConcurrency;
+        private final Executor executor;
+        private final CheckedFunction1<? super T, ? extends R> mapper;
+        private final ArrayDeque<FutureTask<R>> running = new ArrayDeque<>();
+        private boolean exhausted;
+        private boolean failed;
+
+        ConcurrentMapTrySpliterator(Spliterator<? extends T> source, int maxConcurrency, Executor executor, CheckedFunction1<? super T, ? extends R> mapper) {
+            super(source.estimateSize(), source.characteristics() & Spliterator.ORDERED);
+            this.source = source;
+            this.maxConcurrency = maxConcurrency;
+            this.executor = executor;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Try<R>> action) {
+            if (failed) return false;
+            while (!exhausted && running.size() < maxConcurrency) {
+                exhausted = !source.tryAdvance(value -> {
+                    final FutureTask<R> task = new FutureTask<>(() -> {
+                        try {
+                            return mapper.apply(value);
+                        } catch (Throwable t) {
+                            return Failure.sneakyThrow(t);
+                        }
+                    });
+                    running.add(task);
+                    executor.execute(task);
+                });
+            }
+            final FutureTask<R> head = running.poll();
+            if (head == null) return false;
+            final Try<R> result = await(head);
+            if (result.isFailure()) {
+                failed = true;
+                cancel();
+            }
+            action.accept(result);
+            return true;
+        }
+
+        // Interrupts the worker threads of the running mappings, their results are never read
+        void cancel() {
+            FutureTask<R> task;
+            while ((task = running.poll()) != null) task.cancel(true);
+        }
+
+        private static <R> Try<R> await(FutureTask<R> task) {
+            try {
+                return new Success<>(task.get());
+            } catch (ExecutionException e) {
+                return new Failure<>(e.getCause() == null ? e : e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new Failure<>(e);
+            } catch (Throwable t) {
+                return new Failure<>(t);
+            }
+        }
+    }
+}
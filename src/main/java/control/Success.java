@@ -1,6 +1,14 @@
 package control;
 
+import control.func.CheckedFunction1;
+
 import java.io.Serializable;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 public record Success<T>(T value) implements Try<T>, Serializable {
 
@@ -30,4 +38,84 @@ public record Success<T>(T value) implements Try<T>, Serializable {
     public boolean isSuccess() {
         return true;
     }
+
+    @Override
+    public <U> Try<U> map(Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        try {
+            return new Success<>(mapper.apply(value));
+        } catch (Throwable t) {
+            return new Failure<>(t);
+        }
+    }
+
+    @Override
+    public <U> Try<U> mapTry(CheckedFunction1<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        try {
+            return new Success<>(mapper.apply(value));
+        } catch (Throwable t) {
+            return new Failure<>(t);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <U> Try<U> flatMap(Function<? super T, ? extends Try<? extends U>> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        try {
+            return (Try<U>) mapper.apply(value);
+        } catch (Throwable t) {
+            return new Failure<>(t);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <U> Try<U> flatMapTry(CheckedFunction1<? super T, ? extends Try<? extends U>> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        try {
+            return (Try<U>) mapper.apply(value);
+        } catch (Throwable t) {
+            return new Failure<>(t);
+        }
+    }
+
+    @Override
+    public Try<T> recover(Function<? super Throwable, ? extends T> f) {
+        Objects.requireNonNull(f, "f is null");
+        return this;
+    }
+
+    @Override
+    public <X> X fold(Function<? super Throwable, ? extends X> ifFail, Function<? super T, ? extends X> f) {
+        return f.apply(value);
+    }
+
+    @Override
+    public T getOrElse(T other) {
+        return value;
+    }
+
+    @Override
+    public T getOrElse(Supplier<? extends T> supplier) {
+        Objects.requireNonNull(supplier, "supplier is null");
+        return value;
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action is null");
+        action.accept(value);
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return Stream.of(value);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Iterators.spliterator(value);
+    }
 }
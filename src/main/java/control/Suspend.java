@@ -0,0 +1,6 @@
+package control;
+
+import java.util.function.Supplier;
+
+public record Suspend<T>(Supplier<? extends TailCall<? extends T>> resume) implements TailCall<T> {
+}
@@ -0,0 +1,86 @@
+package control;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Trampoline for recursive algorithms: recursive calls return a {@link Suspend} instead of calling themselves,
+ * and {@link #evaluate()} runs the steps in a loop with constant stack usage.
+ */
+public sealed interface TailCall<T> extends Control<T> permits Done, Suspend, FlatMapped {
+
+    static <T> TailCall<T> done(T value) {
+        return new Done<>(value);
+    }
+
+    static <T> TailCall<T> suspend(Supplier<? extends TailCall<? extends T>> resume) {
+        Objects.requireNonNull(resume, "resume is null");
+        return new Suspend<>(resume);
+    }
+
+    default <U> TailCall<U> flatMap(Function<? super T, ? extends TailCall<? extends U>> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return new FlatMapped<>(this, mapper);
+    }
+
+    @Override
+    default <U> TailCall<U> map(Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return new FlatMapped<>(this, value -> new Done<>(mapper.apply(value)));
+    }
+
+    @Override
+    default TailCall<T> peek(Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action is null");
+        return map(value -> {
+            action.accept(value);
+            return value;
+        });
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    default T evaluate() {
+        ArrayDeque<Function> continuations = null;
+        TailCall<?> current = this;
+        while (true) {
+            if (current instanceof Done<?> done) {
+                final Function continuation = continuations == null ? null : continuations.poll();
+                if (continuation == null) return (T) done.value();
+                current = Objects.requireNonNull((TailCall<?>) continuation.apply(done.value()), "mapper returned null");
+            } else if (current instanceof Suspend<?> suspend) {
+                current = Objects.requireNonNull(suspend.resume().get(), "resume returned null");
+            } else {
+                final FlatMapped<?, ?> flatMapped = (FlatMapped<?, ?>) current;
+                if (continuations == null) continuations = new ArrayDeque<>();
+                continuations.push(flatMapped.mapper());
+                current = flatMapped.source();
+            }
+        }
+    }
+
+    default Try<T> evaluateTry() {
+        return Try.of(this::evaluate);
+    }
+
+    @Override
+    default T get() {
+        return evaluate();
+    }
+
+    @Override
+    default boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    default Iterator<T> iterator() {
+        return Iterators.of(get());
+    }
+}
+
+record FlatMapped<S, T>(TailCall<S> source, Function<? super S, ? extends TailCall<? extends T>> mapper) implements TailCall<T> {
+}
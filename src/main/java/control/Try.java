@@ -5,10 +5,13 @@ import control.func.*;
 import java.io.Serializable;
 import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 public sealed interface Try<T> extends Control<T>, Serializable permits Success, Failure {
 
@@ -485,6 +488,11 @@ public sealed interface Try<T> extends Control<T>, Serializable permits Success,
         return new WithResources8<>(t1Supplier, t2Supplier, t3Supplier, t4Supplier, t5Supplier, t6Supplier, t7Supplier, t8Supplier);
     }
 
+    static <T extends AutoCloseable> WithResourcesList<T> withResources(List<? extends CheckedFunction0<? extends T>> suppliers) {
+        Objects.requireNonNull(suppliers, "suppliers is null");
+        return new WithResourcesList<>(suppliers);
+    }
+
     final class WithResources1<T1 extends AutoCloseable> {
 
         private final CheckedFunction0<? extends T1> t1Supplier;
@@ -501,6 +509,28 @@ public sealed interface Try<T> extends Control<T>, Serializable permits Success,
                 }
             });
         }
+
+        public <R> Try<Stream<R>> stream(CheckedFunction1<? super T1, ? extends Stream<R>> f) {
+            return Try.of(() -> {
+                final Resources resources = new Resources(1);
+                try {
+                    final T1 t1 = resources.add(t1Supplier.apply());
+                    return resources.closeOnClose(f.apply(t1));
+                } catch (Throwable t) {
+                    throw resources.closeSuppressed(t);
+                }
+            });
+        }
+
+        public <R> CompletableFuture<Try<R>> ofAsync(CheckedFunction1<? super T1, ? extends CompletionStage<? extends R>> f) {
+            final Resources resources = new Resources(1);
+            try {
+                final T1 t1 = resources.add(t1Supplier.apply());
+                return resources.closeOnComplete(f.apply(t1));
+            } catch (Throwable t) {
+                return CompletableFuture.completedFuture(Try.failure(resources.closeSuppressed(t)));
+            }
+        }
     }
 
     final class WithResources2<T1 extends AutoCloseable, T2 extends AutoCloseable> {
@@ -521,6 +551,30 @@ public sealed interface Try<T> extends Control<T>, Serializable permits Success,
                 }
             });
         }
+
+        public <R> Try<Stream<R>> stream(CheckedFunction2<? super T1, ? super T2, ? extends Stream<R>> f) {
+            return Try.of(() -> {
+                final Resources resources = new Resources(2);
+                try {
+                    final T1 t1 = resources.add(t1Supplier.apply());
+                    final T2 t2 = resources.add(t2Supplier.apply());
+                    return resources.closeOnClose(f.apply(t1, t2));
+                } catch (Throwable t) {
+                    throw resources.closeSuppressed(t);
+                }
+            });
+        }
+
+        public <R> CompletableFuture<Try<R>> ofAsync(CheckedFunction2<? super T1, ? super T2, ? extends CompletionStage<? extends R>> f) {
+            final Resources resources = new Resources(2);
+            try {
+                final T1 t1 = resources.add(t1Supplier.apply());
+                final T2 t2 = resources.add(t2Supplier.apply());
+                return resources.closeOnComplete(f.apply(t1, t2));
+            } catch (Throwable t) {
+                return CompletableFuture.completedFuture(Try.failure(resources.closeSuppressed(t)));
+            }
+        }
     }
 
     final class WithResources3<T1 extends AutoCloseable, T2 extends AutoCloseable, T3 extends AutoCloseable> {
@@ -543,6 +597,32 @@ public sealed interface Try<T> extends Control<T>, Serializable permits Success,
                 }
             });
         }
+
+        public <R> Try<Stream<R>> stream(CheckedFunction3<? super T1, ? super T2, ? super T3, ? extends Stream<R>> f) {
+            return Try.of(() -> {
+                final Resources resources = new Resources(3);
+                try {
+                    final T1 t1 = resources.add(t1Supplier.apply());
+                    final T2 t2 = resources.add(t2Supplier.apply());
+                    final T3 t3 = resources.add(t3Supplier.apply());
+                    return resources.closeOnClose(f.apply(t1, t2, t3));
+                } catch (Throwable t) {
+                    throw resources.closeSuppressed(t);
+                }
+            });
+        }
+
+        public <R> CompletableFuture<Try<R>> ofAsync(CheckedFunction3<? super T1, ? super T2, ? super T3, ? extends CompletionStage<? extends R>> f) {
+            final Resources resources = new Resources(3);
+            try {
+                final T1 t1 = resources.add(t1Supplier.apply());
+                final T2 t2 = resources.add(t2Supplier.apply());
+                final T3 t3 = resources.add(t3Supplier.apply());
+                return resources.closeOnComplete(f.apply(t1, t2, t3));
+            } catch (Throwable t) {
+                return CompletableFuture.completedFuture(Try.failure(resources.closeSuppressed(t)));
+            }
+        }
     }
 
     final class WithResources4<T1 extends AutoCloseable, T2 extends AutoCloseable, T3 extends AutoCloseable, T4 extends AutoCloseable> {
@@ -567,6 +647,34 @@ public sealed interface Try<T> extends Control<T>, Serializable permits Success,
                 }
             });
         }
+
+        public <R> Try<Stream<R>> stream(CheckedFunction4<? super T1, ? super T2, ? super T3, ? super T4, ? extends Stream<R>> f) {
+            return Try.of(() -> {
+                final Resources resources = new Resources(4);
+                try {
+                    final T1 t1 = resources.add(t1Supplier.apply());
+                    final T2 t2 = resources.add(t2Supplier.apply());
+                    final T3 t3 = resources.add(t3Supplier.apply());
+                    final T4 t4 = resources.add(t4Supplier.apply());
+                    return resources.closeOnClose(f.apply(t1, t2, t3, t4));
+                } catch (Throwable t) {
+                    throw resources.closeSuppressed(t);
+                }
+            });
+        }
+
+        public <R> CompletableFuture<Try<R>> ofAsync(CheckedFunction4<? super T1, ? super T2, ? super T3, ? super T4, ? extends CompletionStage<? extends R>> f) {
+            final Resources resources = new Resources(4);
+            try {
+                final T1 t1 = resources.add(t1Supplier.apply());
+                final T2 t2 = resources.add(t2Supplier.apply());
+                final T3 t3 = resources.add(t3Supplier.apply());
+                final T4 t4 = resources.add(t4Supplier.apply());
+                return resources.closeOnComplete(f.apply(t1, t2, t3, t4));
+            } catch (Throwable t) {
+                return CompletableFuture.completedFuture(Try.failure(resources.closeSuppressed(t)));
+            }
+        }
     }
 
     final class WithResources5<T1 extends AutoCloseable, T2 extends AutoCloseable, T3 extends AutoCloseable, T4 extends AutoCloseable, T5 extends AutoCloseable> {
@@ -593,6 +701,36 @@ public sealed interface Try<T> extends Control<T>, Serializable permits Success,
                 }
             });
         }
+
+        public <R> Try<Stream<R>> stream(CheckedFunction5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends Stream<R>> f) {
+            return Try.of(() -> {
+                final Resources resources = new Resources(5);
+                try {
+                    final T1 t1 = resources.add(t1Supplier.apply());
+                    final T2 t2 = resources.add(t2Supplier.apply());
+                    final T3 t3 = resources.add(t3Supplier.apply());
+                    final T4 t4 = resources.add(t4Supplier.apply());
+                    final T5 t5 = resources.add(t5Supplier.apply());
+                    return resources.closeOnClose(f.apply(t1, t2, t3, t4, t5));
+                } catch (Throwable t) {
+                    throw resources.closeSuppressed(t);
+                }
+            });
+        }
+
+        public <R> CompletableFuture<Try<R>> ofAsync(CheckedFunction5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends CompletionStage<? extends R>> f) {
+            final Resources resources = new Resources(5);
+            try {
+                final T1 t1 = resources.add(t1Supplier.apply());
+                final T2 t2 = resources.add(t2Supplier.apply());
+                final T3 t3 = resources.add(t3Supplier.apply());
+                final T4 t4 = resources.add(t4Supplier.apply());
+                final T5 t5 = resources.add(t5Supplier.apply());
+                return resources.closeOnComplete(f.apply(t1, t2, t3, t4, t5));
+            } catch (Throwable t) {
+                return CompletableFuture.completedFuture(Try.failure(resources.closeSuppressed(t)));
+            }
+        }
     }
 
     final class WithResources6<T1 extends AutoCloseable, T2 extends AutoCloseable, T3 extends AutoCloseable, T4 extends AutoCloseable, T5 extends AutoCloseable, T6 extends AutoCloseable> {
@@ -621,6 +759,38 @@ public sealed interface Try<T> extends Control<T>, Serializable permits Success,
                 }
             });
         }
+
+        public <R> Try<Stream<R>> stream(CheckedFunction6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? extends Stream<R>> f) {
+            return Try.of(() -> {
+                final Resources resources = new Resources(6);
+                try {
+                    final T1 t1 = resources.add(t1Supplier.apply());
+                    final T2 t2 = resources.add(t2Supplier.apply());
+                    final T3 t3 = resources.add(t3Supplier.apply());
+                    final T4 t4 = resources.add(t4Supplier.apply());
+                    final T5 t5 = resources.add(t5Supplier.apply());
+                    final T6 t6 = resources.add(t6Supplier.apply());
+                    return resources.closeOnClose(f.apply(t1, t2, t3, t4, t5, t6));
+                } catch (Throwable t) {
+                    throw resources.closeSuppressed(t);
+                }
+            });
+        }
+
+        public <R> CompletableFuture<Try<R>> ofAsync(CheckedFunction6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? extends CompletionStage<? extends R>> f) {
+            final Resources resources = new Resources(6);
+            try {
+                final T1 t1 = resources.add(t1Supplier.apply());
+                final T2 t2 = resources.add(t2Supplier.apply());
+                final T3 t3 = resources.add(t3Supplier.apply());
+                final T4 t4 = resources.add(t4Supplier.apply());
+                final T5 t5 = resources.add(t5Supplier.apply());
+                final T6 t6 = resources.add(t6Supplier.apply());
+                return resources.closeOnComplete(f.apply(t1, t2, t3, t4, t5, t6));
+            } catch (Throwable t) {
+                return CompletableFuture.completedFuture(Try.failure(resources.closeSuppressed(t)));
+            }
+        }
     }
 
     final class WithResources7<T1 extends AutoCloseable, T2 extends AutoCloseable, T3 extends AutoCloseable, T4 extends AutoCloseable, T5 extends AutoCloseable, T6 extends AutoCloseable, T7 extends AutoCloseable> {
@@ -651,6 +821,40 @@ public sealed interface Try<T> extends Control<T>, Serializable permits Success,
                 }
             });
         }
+
+        public <R> Try<Stream<R>> stream(CheckedFunction7<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? extends Stream<R>> f) {
+            return Try.of(() -> {
+                final Resources resources = new Resources(7);
+                try {
+                    final T1 t1 = resources.add(t1Supplier.apply());
+                    final T2 t2 = resources.add(t2Supplier.apply());
+                    final T3 t3 = resources.add(t3Supplier.apply());
+                    final T4 t4 = resources.add(t4Supplier.apply());
+                    final T5 t5 = resources.add(t5Supplier.apply());
+                    final T6 t6 = resources.add(t6Supplier.apply());
+                    final T7 t7 = resources.add(t7Supplier.apply());
+                    return resources.closeOnClose(f.apply(t1, t2, t3, t4, t5, t6, t7));
+                } catch (Throwable t) {
+                    throw resources.closeSuppressed(t);
+                }
+            });
+        }
+
+        public <R> CompletableFuture<Try<R>> ofAsync(CheckedFunction7<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? extends CompletionStage<? extends R>> f) {
+            final Resources resources = new Resources(7);
+            try {
+                final T1 t1 = resources.add(t1Supplier.apply());
+                final T2 t2 = resources.add(t2Supplier.apply());
+                final T3 t3 = resources.add(t3Supplier.apply());
+                final T4 t4 = resources.add(t4Supplier.apply());
+                final T5 t5 = resources.add(t5Supplier.apply());
+                final T6 t6 = resources.add(t6Supplier.apply());
+                final T7 t7 = resources.add(t7Supplier.apply());
+                return resources.closeOnComplete(f.apply(t1, t2, t3, t4, t5, t6, t7));
+            } catch (Throwable t) {
+                return CompletableFuture.completedFuture(Try.failure(resources.closeSuppressed(t)));
+            }
+        }
     }
 
     final class WithResources8<T1 extends AutoCloseable, T2 extends AutoCloseable, T3 extends AutoCloseable, T4 extends AutoCloseable, T5 extends AutoCloseable, T6 extends AutoCloseable, T7 extends AutoCloseable, T8 extends AutoCloseable> {
@@ -683,6 +887,97 @@ public sealed interface Try<T> extends Control<T>, Serializable permits Success,
                 }
             });
         }
+
+        public <R> Try<Stream<R>> stream(CheckedFunction8<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? extends Stream<R>> f) {
+            return Try.of(() -> {
+                final Resources resources = new Resources(8);
+                try {
+                    final T1 t1 = resources.add(t1Supplier.apply());
+                    final T2 t2 = resources.add(t2Supplier.apply());
+                    final T3 t3 = resources.add(t3Supplier.apply());
+                    final T4 t4 = resources.add(t4Supplier.apply());
+                    final T5 t5 = resources.add(t5Supplier.apply());
+                    final T6 t6 = resources.add(t6Supplier.apply());
+                    final T7 t7 = resources.add(t7Supplier.apply());
+                    final T8 t8 = resources.add(t8Supplier.apply());
+                    return resources.closeOnClose(f.apply(t1, t2, t3, t4, t5, t6, t7, t8));
+                } catch (Throwable t) {
+                    throw resources.closeSuppressed(t);
+                }
+            });
+        }
+
+        public <R> CompletableFuture<Try<R>> ofAsync(CheckedFunction8<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? extends CompletionStage<? extends R>> f) {
+            final Resources resources = new Resources(8);
+            try {
+                final T1 t1 = resources.add(t1Supplier.apply());
+                final T2 t2 = resources.add(t2Supplier.apply());
+                final T3 t3 = resources.add(t3Supplier.apply());
+                final T4 t4 = resources.add(t4Supplier.apply());
+                final T5 t5 = resources.add(t5Supplier.apply());
+                final T6 t6 = resources.add(t6Supplier.apply());
+                final T7 t7 = resources.add(t7Supplier.apply());
+                final T8 t8 = resources.add(t8Supplier.apply());
+                return resources.closeOnComplete(f.apply(t1, t2, t3, t4, t5, t6, t7, t8));
+            } catch (Throwable t) {
+                return CompletableFuture.completedFuture(Try.failure(resources.closeSuppressed(t)));
+            }
+        }
+    }
+
+    final class WithResourcesList<T extends AutoCloseable> {
+
+        private final List<? extends CheckedFunction0<? extends T>> suppliers;
+
+        private WithResourcesList(List<? extends CheckedFunction0<? extends T>> suppliers) {
+            this.suppliers = suppliers;
+        }
+
+        public <R> Try<R> of(CheckedFunction1<? super List<T>, ? extends R> f) {
+            Objects.requireNonNull(f, "f is null");
+            final Resources resources = new Resources(suppliers.size());
+            final R result;
+            try {
+                for (CheckedFunction0<? extends T> supplier : suppliers) {
+                    resources.add(supplier.apply());
+                }
+                result = f.apply(resources.acquired());
+            } catch (Throwable t) {
+                return new Failure<>(resources.closeSuppressed(t));
+            }
+            try {
+                resources.close();
+                return new Success<>(result);
+            } catch (Throwable t) {
+                return new Failure<>(t);
+            }
+        }
+
+        public <R> Try<Stream<R>> stream(CheckedFunction1<? super List<T>, ? extends Stream<R>> f) {
+            Objects.requireNonNull(f, "f is null");
+            final Resources resources = new Resources(suppliers.size());
+            try {
+                for (CheckedFunction0<? extends T> supplier : suppliers) {
+                    resources.add(supplier.apply());
+                }
+                return new Success<>(resources.closeOnClose(f.apply(resources.acquired())));
+            } catch (Throwable t) {
+                return new Failure<>(resources.closeSuppressed(t));
+            }
+        }
+
+        public <R> CompletableFuture<Try<R>> ofAsync(CheckedFunction1<? super List<T>, ? extends CompletionStage<? extends R>> f) {
+            Objects.requireNonNull(f, "f is null");
+            final Resources resources = new Resources(suppliers.size());
+            try {
+                for (CheckedFunction0<? extends T> supplier : suppliers) {
+                    resources.add(supplier.apply());
+                }
+                return resources.closeOnComplete(f.apply(resources.acquired()));
+            } catch (Throwable t) {
+                return CompletableFuture.completedFuture(Try.failure(resources.closeSuppressed(t)));
+            }
+        }
     }
 }
 
@@ -0,0 +1,221 @@
+package control;
+
+import control.func.CheckedFunction1;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Result of mapping every element of an array or a list, the values are kept in a dense array indexed like the
+ * input and the failures, expected to be rare, in a sparse list of indexes. No {@code Try} is allocated while
+ * mapping, {@link #get(int)} and {@link #toTryList()} build them on demand.
+ */
+public final class TryBatch<R> {
+
+    private static final int MIN_CHUNK = 1024;
+
+    private final Object[] values;
+    private final int[] failedIndexes;
+    private final Throwable[] causes;
+
+    private TryBatch(Object[] values, int[] failedIndexes, Throwable[] causes) {
+        this.values = values;
+        this.failedIndexes = failedIndexes;
+        this.causes = causes;
+    }
+
+    public static <T, R> TryBatch<R> map(T[] values, CheckedFunction1<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(values, "values is null");
+        Objects.requireNonNull(mapper, "mapper is null");
+        final Object[] results = new Object[values.length];
+        final Failures failures = new Failures();
+        mapRange(values, mapper, results, 0, values.length, failures);
+        return new TryBatch<>(results, failures.indexes(), failures.causes());
+    }
+
+    public static <T, R> TryBatch<R> map(List<? extends T> values, CheckedFunction1<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(values, "values is null");
+        return map(values.toArray(), uncheckedMapper(mapper));
+    }
+
+    // The input is split in chunks mapped on the pool, failures keep the order of the input
+    public static <T, R> TryBatch<R> mapParallel(T[] values, CheckedFunction1<? super T, ? extends R> mapper, ForkJoinPool pool) {
+        Objects.requireNonNull(values, "values is null");
+        Objects.requireNonNull(mapper, "mapper is null");
+        Objects.requireNonNull(pool, "pool is null");
+        final Object[] results = new Object[values.length];
+        final int chunkSize = Math.max(MIN_CHUNK, values.length / (pool.getParallelism() * 4) + 1);
+        final Failures[] chunks = new Failures[(values.length + chunkSize - 1) / chunkSize];
+        pool.invoke(new ChunkTask<>(values, mapper, results, chunks, chunkSize, 0, chunks.length));
+
+        final Failures failures = new Failures();
+        for (Failures chunk : chunks) failures.addAll(chunk);
+        return new TryBatch<>(results, failures.indexes(), failures.causes());
+    }
+
+    public static <T, R> TryBatch<R> mapParallel(List<? extends T> values, CheckedFunction1<? super T, ? extends R> mapper, ForkJoinPool pool) {
+        Objects.requireNonNull(values, "values is null");
+        return mapParallel(values.toArray(), uncheckedMapper(mapper), pool);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, R> CheckedFunction1<Object, ? extends R> uncheckedMapper(CheckedFunction1<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return (CheckedFunction1<Object, ? extends R>) mapper;
+    }
+
+    private static <T, R> void mapRange(T[] values, CheckedFunction1<? super T, ? extends R> mapper, Object[] results, int from, int to, Failures failures) {
+        for (int i = from; i < to; i++) {
+            try {
+                results[i] = mapper.apply(values[i]);
+            } catch (Throwable t) {
+                failures.add(i, Failure.nonFatal(t));
+            }
+        }
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public int failureCount() {
+        return failedIndexes.length;
+    }
+
+    public boolean isAllSuccess() {
+        return failedIndexes.length == 0;
+    }
+
+    public boolean isSuccess(int index) {
+        Objects.checkIndex(index, values.length);
+        return Arrays.binarySearch(failedIndexes, index) < 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Try<R> get(int index) {
+        Objects.checkIndex(index, values.length);
+        final int failure = Arrays.binarySearch(failedIndexes, index);
+        return failure < 0 ? new Success<>((R) values[index]) : new Failure<>(causes[failure]);
+    }
+
+    // Values of the successful elements in input order
+    @SuppressWarnings("unchecked")
+    public List<R> successes() {
+        if (failedIndexes.length == 0) {
+            return (List<R>) Collections.unmodifiableList(Arrays.asList(values));
+        }
+        final List<R> list = new ArrayList<>(values.length - failedIndexes.length);
+        int next = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (next < failedIndexes.length && failedIndexes[next] == i) next++;
+            else list.add((R) values[i]);
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    public SortedMap<Integer, Throwable> failures() {
+        final TreeMap<Integer, Throwable> map = new TreeMap<>();
+        for (int i = 0; i < failedIndexes.length; i++) map.put(failedIndexes[i], causes[i]);
+        return Collections.unmodifiableSortedMap(map);
+    }
+
+    // Each Try is created when the element is read
+    public List<Try<R>> toTryList() {
+        return new AbstractList<>() {
+            @Override
+            public Try<R> get(int index) {
+                return TryBatch.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
+    }
+
+    // Success of all the values, or the first failure in input order
+    public Try<List<R>> toTry() {
+        return failedIndexes.length == 0 ? Try.success(successes()) : Try.failure(causes[0]);
+    }
+
+    @Override
+    public String toString() {
+        return "TryBatch(" + values.length + " elements, " + failedIndexes.length + " failures)";
+    }
+
+    static final class Failures {
+
+        private int[] indexes = new int[0];
+        private Throwable[] causes = new Throwable[0];
+        private int size;
+
+        void add(int index, Throwable cause) {
+            if (size == indexes.length) {
+                final int capacity = Math.max(8, size * 2);
+                indexes = Arrays.copyOf(indexes, capacity);
+                causes = Arrays.copyOf(causes, capacity);
+            }
+            indexes[size] = index;
+            causes[size] = cause;
+            size++;
+        }
+
+        void addAll(Failures other) {
+            for (int i = 0; i < other.size; i++) add(other.indexes[i], other.causes[i]);
+        }
+
+        int[] indexes() {
+            return Arrays.copyOf(indexes, size);
+        }
+
+        Throwable[] causes() {
+            return Arrays.copyOf(causes, size);
+        }
+    }
+
+    static final class ChunkTask<T, R> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final T[] values;
+        private final CheckedFunction1<? super T, ? extends R> mapper;
+        private final Object[] results;
+        private final Failures[] chunks;
+        private final int chunkSize;
+        private final int from;
+        private final int to;
+
+        ChunkTask(T[] values, CheckedFunction1<? super T, ? extends R> mapper, Object[] results, Failures[] chunks, int chunkSize, int from, int to) {
+            this.values = values;
+            this.mapper = mapper;
+            this.results = results;
+            this.chunks = chunks;
+            this.chunkSize = chunkSize;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new ChunkTask<>(values, mapper, results, chunks, chunkSize, from, middle),
+                        new ChunkTask<>(values, mapper, results, chunks, chunkSize, middle, to));
+            } else if (to > from) {
+                final Failures failures = new Failures();
+                final int start = from * chunkSize;
+                mapRange(values, mapper, results, start, Math.min(values.length, start + chunkSize), failures);
+                chunks[from] = failures;
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package control;
+
+import control.func.CheckedFunction1;
+import control.func.CheckedPredicate;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Pre-built chain of {@link Try} operations, built once and applied to many values:
+ * <pre>{@code
+ * TryFn<String, Integer> parse = TryFn.<String>identity().mapTry(Integer::parseInt).filter(i -> i > 0).recover(t -> 0);
+ * Try<Integer> result = parse.apply("42");
+ * }</pre>
+ * The steps run in a single loop over the current value or cause, the only object allocated per application is the
+ * resulting {@code Success} or {@code Failure}. Each call to a builder method returns a new pipeline, a {@code TryFn}
+ * is immutable and can be shared between threads.
+ */
+public final class TryFn<T, R> implements Function<T, Try<R>> {
+
+    private static final byte MAP = 0;
+    private static final byte FILTER = 1;
+    private static final byte FLAT_MAP = 2;
+    private static final byte RECOVER = 3;
+    private static final byte RECOVER_WITH = 4;
+
+    private static final TryFn<?, ?> IDENTITY = new TryFn<>(new byte[0], new Object[0]);
+
+    private final byte[] kinds;
+    private final Object[] steps;
+
+    private TryFn(byte[] kinds, Object[] steps) {
+        this.kinds = kinds;
+        this.steps = steps;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> TryFn<T, T> identity() {
+        return (TryFn<T, T>) IDENTITY;
+    }
+
+    public static <T, R> TryFn<T, R> of(CheckedFunction1<? super T, ? extends R> mapper) {
+        return TryFn.<T>identity().mapTry(mapper);
+    }
+
+    public <U> TryFn<T, U> map(Function<? super R, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return append(MAP, (CheckedFunction1<R, U>) mapper::apply);
+    }
+
+    public <U> TryFn<T, U> mapTry(CheckedFunction1<? super R, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return append(MAP, mapper);
+    }
+
+    public TryFn<T, R> filter(Predicate<? super R> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return append(FILTER, new Filter<R>(predicate::test, null));
+    }
+
+    public TryFn<T, R> filter(Predicate<? super R> predicate, Function<? super R, ? extends Throwable> errorProvider) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        Objects.requireNonNull(errorProvider, "errorProvider is null");
+        return append(FILTER, new Filter<R>(predicate::test, errorProvider::apply));
+    }
+
+    public TryFn<T, R> filterTry(CheckedPredicate<? super R> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return append(FILTER, new Filter<R>(predicate, null));
+    }
+
+    public <U> TryFn<T, U> flatMap(Function<? super R, ? extends Try<? extends U>> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return append(FLAT_MAP, (CheckedFunction1<R, Try<? extends U>>) mapper::apply);
+    }
+
+    public <U> TryFn<T, U> flatMapTry(CheckedFunction1<? super R, ? extends Try<? extends U>> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return append(FLAT_MAP, mapper);
+    }
+
+    public TryFn<T, R> recover(Function<? super Throwable, ? extends R> f) {
+        Objects.requireNonNull(f, "f is null");
+        return append(RECOVER, f);
+    }
+
+    public TryFn<T, R> recoverWith(Function<? super Throwable, ? extends Try<? extends R>> f) {
+        Objects.requireNonNull(f, "f is null");
+        return append(RECOVER_WITH, f);
+    }
+
+    @Override
+    public Try<R> apply(T value) {
+        return run(value, null);
+    }
+
+    // A failure without recovery step is returned as is
+    @SuppressWarnings("unchecked")
+    public Try<R> applyTry(Try<? extends T> t) {
+        Objects.requireNonNull(t, "t is null");
+        if (t.isSuccess()) {
+            return run(t.get(), null);
+        } else {
+            return hasRecovery() ? run(null, t.getCause()) : (Try<R>) t;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Try<R> run(Object value, Throwable cause) {
+        final byte[] kinds = this.kinds;
+        final Object[] steps = this.steps;
+        for (int i = 0; i < kinds.length; i++) {
+            final byte kind = kinds[i];
+            if (cause == null) {
+                try {
+                    if (kind == MAP) {
+                        value = ((CheckedFunction1) steps[i]).apply(value);
+                    } else if (kind == FILTER) {
+                        final Filter filter = (Filter) steps[i];
+                        if (!filter.predicate().test(value)) {
+                            cause = filter.errorProvider() == null
+                                    ? new NoSuchElementException("Predicate does not hold for " + value)
+                                    : Objects.requireNonNull((Throwable) filter.errorProvider().apply(value), "errorProvider returned null");
+                        }
+                    } else if (kind == FLAT_MAP) {
+                        final Try<?> result = (Try<?>) ((CheckedFunction1) steps[i]).apply(value);
+                        if (result.isSuccess()) value = result.get();
+                        else cause = result.getCause();
+                    }
+                } catch (Throwable t) {
+                    cause = Failure.nonFatal(t);
+                }
+            } else if (kind == RECOVER || kind == RECOVER_WITH) {
+                try {
+                    if (kind == RECOVER) {
+                        value = ((Function) steps[i]).apply(cause);
+                        cause = null;
+                    } else {
+                        final Try<?> result = (Try<?>) ((Function) steps[i]).apply(cause);
+                        if (result.isSuccess()) {
+                            value = result.get();
+                            cause = null;
+                        } else {
+                            cause = result.getCause();
+                        }
+                    }
+                } catch (Throwable t) {
+                    cause = Failure.nonFatal(t);
+                }
+            }
+        }
+        return cause == null ? new Success<>((R) value) : new Failure<>(cause);
+    }
+
+    private boolean hasRecovery() {
+        for (byte kind : kinds) {
+            if (kind == RECOVER || kind == RECOVER_WITH) return true;
+        }
+        return false;
+    }
+
+    private <U> TryFn<T, U> append(byte kind, Object step) {
+        final byte[] nextKinds = Arrays.copyOf(kinds, kinds.length + 1);
+        final Object[] nextSteps = Arrays.copyOf(steps, steps.length + 1);
+        nextKinds[kinds.length] = kind;
+        nextSteps[steps.length] = step;
+        return new TryFn<>(nextKinds, nextSteps);
+    }
+
+    @Override
+    public String toString() {
+        return "TryFn(" + kinds.length + " steps)";
+    }
+
+    private record Filter<T>(CheckedPredicate<? super T> predicate, CheckedFunction1<? super T, ? extends Throwable> errorProvider) {
+    }
+}
@@ -2,6 +2,11 @@ package control;
 
 import java.io.Serializable;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 public record Valid<E, T>(T value) implements Validation<E, T>, Serializable {
 
@@ -26,4 +31,58 @@ public record Valid<E, T>(T value) implements Validation<E, T>, Serializable {
     public E getError() throws RuntimeException {
         throw new NoSuchElementException("error of 'valid' Validation");
     }
-}
\ No newline at end of file
+
+    @Override
+    public <U> Validation<E, U> map(Function<? super T, ? extends U> f) {
+        Objects.requireNonNull(f, "f is null");
+        return Validation.valid(f.apply(value));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <U> Validation<E, U> flatMap(Function<? super T, ? extends Validation<E, ? extends U>> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        return (Validation<E, U>) mapper.apply(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <U> Validation<U, T> mapError(Function<? super E, ? extends U> f) {
+        Objects.requireNonNull(f, "f is null");
+        return (Validation<U, T>) this;
+    }
+
+    @Override
+    public <U> U fold(Function<? super E, ? extends U> ifInvalid, Function<? super T, ? extends U> ifValid) {
+        Objects.requireNonNull(ifInvalid, "ifInvalid is null");
+        Objects.requireNonNull(ifValid, "ifValid is null");
+        return ifValid.apply(value);
+    }
+
+    @Override
+    public T getOrElseGet(Function<? super E, ? extends T> other) {
+        Objects.requireNonNull(other, "other is null");
+        return value;
+    }
+
+    @Override
+    public T getOrElse(T other) {
+        return value;
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action, "action is null");
+        action.accept(value);
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return Stream.of(value);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Iterators.spliterator(value);
+    }
+}
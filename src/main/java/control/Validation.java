@@ -4,9 +4,12 @@ import control.func.*;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -57,6 +60,41 @@ public sealed interface Validation<E, T> extends Control<T>, Serializable permit
         return invalids.isEmpty() ? valid(valids) : invalid(invalids);
     }
 
+    // Once the policy keeps no more errors the remaining validations are not read, valid values stop being collected at the first error
+    static <E, T> Validation<List<E>, List<T>> sequence(Iterable<? extends Validation<? extends List<? extends E>, ? extends T>> values, Accumulation accumulation) {
+        Objects.requireNonNull(values, "values is null");
+        Objects.requireNonNull(accumulation, "accumulation is null");
+        final Accumulation.Errors<E> invalids = accumulation.errors();
+        List<T> valids = new ArrayList<>();
+        for (Validation<? extends List<? extends E>, ? extends T> value : values) {
+            if (value.isInvalid()) {
+                invalids.addAll(value.getError());
+                if (invalids.isFull()) break;
+                // An invalid with an empty error list keeps no error, like sequence(values) it does not make the result invalid
+                if (!invalids.isEmpty()) valids = null;
+            } else if (valids != null) valids.add(value.get());
+        }
+        return invalids.isEmpty() ? valid(valids) : invalid(invalids.toList());
+    }
+
+    // Errors merged pairwise instead of concatenated, see ErrorSet::union
+    static <E, T> Validation<E, List<T>> sequence(Iterable<? extends Validation<E, ? extends T>> values, BinaryOperator<E> merge) {
+        Objects.requireNonNull(values, "values is null");
+        Objects.requireNonNull(merge, "merge is null");
+        E errors = null;
+        List<T> valids = new ArrayList<>();
+        for (Validation<E, ? extends T> value : values) {
+            errors = mergeError(errors, value, merge);
+            if (errors == null) valids.add(value.get());
+        }
+        return errors == null ? valid(valids) : invalid(errors);
+    }
+
+    private static <E> E mergeError(E errors, Validation<E, ?> validation, BinaryOperator<E> merge) {
+        if (validation.isValid()) return errors;
+        return errors == null ? validation.getError() : Objects.requireNonNull(merge.apply(errors, validation.getError()), "merged error is null");
+    }
+
     default <U> U transform(Function<? super Validation<E, T>, ? extends U> f) {
         Objects.requireNonNull(f, "f is null");
         return f.apply(this);
@@ -125,6 +163,26 @@ public sealed interface Validation<E, T> extends Control<T>, Serializable permit
         return new Builder8<>(validation1, validation2, validation3, validation4, validation5, validation6, validation7, validation8);
     }
 
+    // Any number of validations, values are read back by position in ap
+    @SafeVarargs
+    static <E> BuilderN<E> combineAll(Validation<E, ?>... validations) {
+        Objects.requireNonNull(validations, "validations is null");
+        // Copied element by element, the varargs array itself is never handed out
+        final Validation<E, ?>[] copy = validationArray(validations.length);
+        for (int i = 0; i < copy.length; i++) copy[i] = validations[i];
+        return new BuilderN<>(copy);
+    }
+
+    static <E> BuilderN<E> combineAll(List<? extends Validation<E, ?>> validations) {
+        Objects.requireNonNull(validations, "validations is null");
+        return new BuilderN<>(validations.toArray(validationArray(0)));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <E> Validation<E, ?>[] validationArray(int length) {
+        return new Validation[length];
+    }
+
     boolean isValid();
 
     boolean isInvalid();
@@ -251,6 +309,24 @@ public sealed interface Validation<E, T> extends Control<T>, Serializable permit
         }
     }
 
+    // Errors of the given validation first, then the error of this one if the policy still keeps errors
+    default <U> Validation<List<E>, U> ap(Validation<List<E>, ? extends Function<? super T, ? extends U>> validation, Accumulation accumulation) {
+        Objects.requireNonNull(validation, "validation is null");
+        Objects.requireNonNull(accumulation, "accumulation is null");
+        if (isValid() && validation.isValid()) return ap(validation);
+        final Accumulation.Errors<E> errors = accumulation.errors();
+        if (validation.isInvalid()) errors.addAll(validation.getError());
+        if (isInvalid()) errors.add(this.getError());
+        return invalid(errors.toList());
+    }
+
+    default <U> Validation<E, U> ap(Validation<E, ? extends Function<? super T, ? extends U>> validation, BinaryOperator<E> merge) {
+        Objects.requireNonNull(validation, "validation is null");
+        Objects.requireNonNull(merge, "merge is null");
+        final E errors = mergeError(mergeError(null, validation, merge), this, merge);
+        return errors == null ? valid(validation.get().apply(this.get())) : invalid(errors);
+    }
+
     default <U> Builder<E, T, U> combine(Validation<E, U> validation) {
         return new Builder<>(this, validation);
     }
@@ -323,6 +399,27 @@ public sealed interface Validation<E, T> extends Control<T>, Serializable permit
                     : Validation.invalid(errors);
         }
 
+        public <R> Validation<List<E>, R> ap(Accumulation accumulation, Function2<T1, T2, R> f) {
+            Objects.requireNonNull(accumulation, "accumulation is null");
+            final Accumulation.Errors<E> errors = accumulation.errors();
+            if (v1.isInvalid()) errors.add(v1.getError());
+            if (v2.isInvalid()) errors.add(v2.getError());
+
+            return errors.isEmpty() ?
+                    Validation.valid(f.apply(v1.get(), v2.get()))
+                    : Validation.invalid(errors.toList());
+        }
+
+        public <R> Validation<E, R> ap(BinaryOperator<E> merge, Function2<T1, T2, R> f) {
+            Objects.requireNonNull(merge, "merge is null");
+            E errors = mergeError(null, v1, merge);
+            errors = mergeError(errors, v2, merge);
+
+            return errors == null ?
+                    Validation.valid(f.apply(v1.get(), v2.get()))
+                    : Validation.invalid(errors);
+        }
+
         public <T3> Builder3<E, T1, T2, T3> combine(Validation<E, T3> v3) {
             return new Builder3<>(v1, v2, v3);
         }
@@ -352,6 +449,29 @@ public sealed interface Validation<E, T> extends Control<T>, Serializable permit
                     : Validation.invalid(errors);
         }
 
+        public <R> Validation<List<E>, R> ap(Accumulation accumulation, Function3<T1, T2, T3, R> f) {
+            Objects.requireNonNull(accumulation, "accumulation is null");
+            final Accumulation.Errors<E> errors = accumulation.errors();
+            if (v1.isInvalid()) errors.add(v1.getError());
+            if (v2.isInvalid()) errors.add(v2.getError());
+            if (v3.isInvalid()) errors.add(v3.getError());
+
+            return errors.isEmpty() ?
+                    Validation.valid(f.apply(v1.get(), v2.get(), v3.get()))
+                    : Validation.invalid(errors.toList());
+        }
+
+        public <R> Validation<E, R> ap(BinaryOperator<E> merge, Function3<T1, T2, T3, R> f) {
+            Objects.requireNonNull(merge, "merge is null");
+            E errors = mergeError(null, v1, merge);
+            errors = mergeError(errors, v2, merge);
+            errors = mergeError(errors, v3, merge);
+
+            return errors == null ?
+                    Validation.valid(f.apply(v1.get(), v2.get(), v3.get()))
+                    : Validation.invalid(errors);
+        }
+
         public <T4> Builder4<E, T1, T2, T3, T4> combine(Validation<E, T4> v4) {
             return new Builder4<>(v1, v2, v3, v4);
         }
@@ -384,6 +504,31 @@ public sealed interface Validation<E, T> extends Control<T>, Serializable permit
                     : Validation.invalid(errors);
         }
 
+        public <R> Validation<List<E>, R> ap(Accumulation accumulation, Function4<T1, T2, T3, T4, R> f) {
+            Objects.requireNonNull(accumulation, "accumulation is null");
+            final Accumulation.Errors<E> errors = accumulation.errors();
+            if (v1.isInvalid()) errors.add(v1.getError());
+            if (v2.isInvalid()) errors.add(v2.getError());
+            if (v3.isInvalid()) errors.add(v3.getError());
+            if (v4.isInvalid()) errors.add(v4.getError());
+
+            return errors.isEmpty() ?
+                    Validation.valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get()))
+                    : Validation.invalid(errors.toList());
+        }
+
+        public <R> Validation<E, R> ap(BinaryOperator<E> merge, Function4<T1, T2, T3, T4, R> f) {
+            Objects.requireNonNull(merge, "merge is null");
+            E errors = mergeError(null, v1, merge);
+            errors = mergeError(errors, v2, merge);
+            errors = mergeError(errors, v3, merge);
+            errors = mergeError(errors, v4, merge);
+
+            return errors == null ?
+                    Validation.valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get()))
+                    : Validation.invalid(errors);
+        }
+
         public <T5> Builder5<E, T1, T2, T3, T4, T5> combine(Validation<E, T5> v5) {
             return new Builder5<>(v1, v2, v3, v4, v5);
         }
@@ -419,6 +564,33 @@ public sealed interface Validation<E, T> extends Control<T>, Serializable permit
                     : Validation.invalid(errors);
         }
 
+        public <R> Validation<List<E>, R> ap(Accumulation accumulation, Function5<T1, T2, T3, T4, T5, R> f) {
+            Objects.requireNonNull(accumulation, "accumulation is null");
+            final Accumulation.Errors<E> errors = accumulation.errors();
+            if (v1.isInvalid()) errors.add(v1.getError());
+            if (v2.isInvalid()) errors.add(v2.getError());
+            if (v3.isInvalid()) errors.add(v3.getError());
+            if (v4.isInvalid()) errors.add(v4.getError());
+            if (v5.isInvalid()) errors.add(v5.getError());
+
+            return errors.isEmpty() ?
+                    Validation.valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get()))
+                    : Validation.invalid(errors.toList());
+        }
+
+        public <R> Validation<E, R> ap(BinaryOperator<E> merge, Function5<T1, T2, T3, T4, T5, R> f) {
+            Objects.requireNonNull(merge, "merge is null");
+            E errors = mergeError(null, v1, merge);
+            errors = mergeError(errors, v2, merge);
+            errors = mergeError(errors, v3, merge);
+            errors = mergeError(errors, v4, merge);
+            errors = mergeError(errors, v5, merge);
+
+            return errors == null ?
+                    Validation.valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get()))
+                    : Validation.invalid(errors);
+        }
+
         public <T6> Builder6<E, T1, T2, T3, T4, T5, T6> combine(Validation<E, T6> v6) {
             return new Builder6<>(v1, v2, v3, v4, v5, v6);
         }
@@ -457,6 +629,35 @@ public sealed interface Validation<E, T> extends Control<T>, Serializable permit
                     : Validation.invalid(errors);
         }
 
+        public <R> Validation<List<E>, R> ap(Accumulation accumulation, Function6<T1, T2, T3, T4, T5, T6, R> f) {
+            Objects.requireNonNull(accumulation, "accumulation is null");
+            final Accumulation.Errors<E> errors = accumulation.errors();
+            if (v1.isInvalid()) errors.add(v1.getError());
+            if (v2.isInvalid()) errors.add(v2.getError());
+            if (v3.isInvalid()) errors.add(v3.getError());
+            if (v4.isInvalid()) errors.add(v4.getError());
+            if (v5.isInvalid()) errors.add(v5.getError());
+            if (v6.isInvalid()) errors.add(v6.getError());
+
+            return errors.isEmpty() ?
+                    Validation.valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get()))
+                    : Validation.invalid(errors.toList());
+        }
+
+        public <R> Validation<E, R> ap(BinaryOperator<E> merge, Function6<T1, T2, T3, T4, T5, T6, R> f) {
+            Objects.requireNonNull(merge, "merge is null");
+            E errors = mergeError(null, v1, merge);
+            errors = mergeError(errors, v2, merge);
+            errors = mergeError(errors, v3, merge);
+            errors = mergeError(errors, v4, merge);
+            errors = mergeError(errors, v5, merge);
+            errors = mergeError(errors, v6, merge);
+
+            return errors == null ?
+                    Validation.valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get()))
+                    : Validation.invalid(errors);
+        }
+
         public <T7> Builder7<E, T1, T2, T3, T4, T5, T6, T7> combine(Validation<E, T7> v7) {
             return new Builder7<>(v1, v2, v3, v4, v5, v6, v7);
         }
@@ -498,6 +699,37 @@ public sealed interface Validation<E, T> extends Control<T>, Serializable permit
                     : Validation.invalid(errors);
         }
 
+        public <R> Validation<List<E>, R> ap(Accumulation accumulation, Function7<T1, T2, T3, T4, T5, T6, T7, R> f) {
+            Objects.requireNonNull(accumulation, "accumulation is null");
+            final Accumulation.Errors<E> errors = accumulation.errors();
+            if (v1.isInvalid()) errors.add(v1.getError());
+            if (v2.isInvalid()) errors.add(v2.getError());
+            if (v3.isInvalid()) errors.add(v3.getError());
+            if (v4.isInvalid()) errors.add(v4.getError());
+            if (v5.isInvalid()) errors.add(v5.getError());
+            if (v6.isInvalid()) errors.add(v6.getError());
+            if (v7.isInvalid()) errors.add(v7.getError());
+
+            return errors.isEmpty() ?
+                    Validation.valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get(), v7.get()))
+                    : Validation.invalid(errors.toList());
+        }
+
+        public <R> Validation<E, R> ap(BinaryOperator<E> merge, Function7<T1, T2, T3, T4, T5, T6, T7, R> f) {
+            Objects.requireNonNull(merge, "merge is null");
+            E errors = mergeError(null, v1, merge);
+            errors = mergeError(errors, v2, merge);
+            errors = mergeError(errors, v3, merge);
+            errors = mergeError(errors, v4, merge);
+            errors = mergeError(errors, v5, merge);
+            errors = mergeError(errors, v6, merge);
+            errors = mergeError(errors, v7, merge);
+
+            return errors == null ?
+                    Validation.valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get(), v7.get()))
+                    : Validation.invalid(errors);
+        }
+
         public <T8> Builder8<E, T1, T2, T3, T4, T5, T6, T7, T8> combine(Validation<E, T8> v8) {
             return new Builder8<>(v1, v2, v3, v4, v5, v6, v7, v8);
         }
@@ -541,6 +773,156 @@ public sealed interface Validation<E, T> extends Control<T>, Serializable permit
                     Validation.valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get(), v7.get(), v8.get()))
                     : Validation.invalid(errors);
         }
+
+        public <R> Validation<List<E>, R> ap(Accumulation accumulation, Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> f) {
+            Objects.requireNonNull(accumulation, "accumulation is null");
+            final Accumulation.Errors<E> errors = accumulation.errors();
+            if (v1.isInvalid()) errors.add(v1.getError());
+            if (v2.isInvalid()) errors.add(v2.getError());
+            if (v3.isInvalid()) errors.add(v3.getError());
+            if (v4.isInvalid()) errors.add(v4.getError());
+            if (v5.isInvalid()) errors.add(v5.getError());
+            if (v6.isInvalid()) errors.add(v6.getError());
+            if (v7.isInvalid()) errors.add(v7.getError());
+            if (v8.isInvalid()) errors.add(v8.getError());
+
+            return errors.isEmpty() ?
+                    Validation.valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get(), v7.get(), v8.get()))
+                    : Validation.invalid(errors.toList());
+        }
+
+        public <R> Validation<E, R> ap(BinaryOperator<E> merge, Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> f) {
+            Objects.requireNonNull(merge, "merge is null");
+            E errors = mergeError(null, v1, merge);
+            errors = mergeError(errors, v2, merge);
+            errors = mergeError(errors, v3, merge);
+            errors = mergeError(errors, v4, merge);
+            errors = mergeError(errors, v5, merge);
+            errors = mergeError(errors, v6, merge);
+            errors = mergeError(errors, v7, merge);
+            errors = mergeError(errors, v8, merge);
+
+            return errors == null ?
+                    Validation.valid(f.apply(v1.get(), v2.get(), v3.get(), v4.get(), v5.get(), v6.get(), v7.get(), v8.get()))
+                    : Validation.invalid(errors);
+        }
+
+        // Sized for a few more fields, the following combine calls append to the same builder
+        public BuilderN<E> combine(Validation<E, ?> v9) {
+            final Validation<E, ?>[] validations = validationArray(16);
+            validations[0] = v1;
+            validations[1] = v2;
+            validations[2] = v3;
+            validations[3] = v4;
+            validations[4] = v5;
+            validations[5] = v6;
+            validations[6] = v7;
+            validations[7] = v8;
+            return new BuilderN<>(validations, 8).combine(v9);
+        }
+    }
+
+    // combine appends in place and returns this builder, a wide record costs one builder whatever its number of fields
+    final class BuilderN<E> {
+
+        private Validation<E, ?>[] validations;
+        private int size;
+
+        private BuilderN(Validation<E, ?>[] validations, int size) {
+            for (int i = 0; i < size; i++) {
+                Objects.requireNonNull(validations[i], "validation" + (i + 1) + " is null");
+            }
+            this.validations = validations;
+            this.size = size;
+        }
+
+        private BuilderN(Validation<E, ?>[] validations) {
+            this(validations, validations.length);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        // Errors are counted first so that the error list is allocated once, at its final size
+        public <R> Validation<List<E>, R> ap(Function<? super Values, ? extends R> f) {
+            Objects.requireNonNull(f, "f is null");
+            int invalid = 0;
+            for (int i = 0; i < size; i++) {
+                if (validations[i].isInvalid()) invalid++;
+            }
+            if (invalid == 0) return Validation.valid(f.apply(new Values(values())));
+            final List<E> errors = new ArrayList<>(invalid);
+            for (int i = 0; i < size; i++) {
+                if (validations[i].isInvalid()) errors.add(validations[i].getError());
+            }
+            return Validation.invalid(errors);
+        }
+
+        // Stops looking at the validations once the policy keeps no more errors
+        public <R> Validation<List<E>, R> ap(Accumulation accumulation, Function<? super Values, ? extends R> f) {
+            Objects.requireNonNull(accumulation, "accumulation is null");
+            Objects.requireNonNull(f, "f is null");
+            final Accumulation.Errors<E> errors = accumulation.errors();
+            for (int i = 0; i < size; i++) {
+                if (validations[i].isInvalid()) {
+                    errors.add(validations[i].getError());
+                    if (errors.isFull()) break;
+                }
+            }
+            if (errors.isEmpty()) return ap(f);
+            return Validation.invalid(errors.toList());
+        }
+
+        public <R> Validation<E, R> ap(BinaryOperator<E> merge, Function<? super Values, ? extends R> f) {
+            Objects.requireNonNull(merge, "merge is null");
+            Objects.requireNonNull(f, "f is null");
+            E errors = null;
+            for (int i = 0; i < size; i++) errors = mergeError(errors, validations[i], merge);
+            if (errors != null) return Validation.invalid(errors);
+            return Validation.valid(f.apply(new Values(values())));
+        }
+
+        public BuilderN<E> combine(Validation<E, ?> validation) {
+            Objects.requireNonNull(validation, "validation" + (size + 1) + " is null");
+            if (size == validations.length) validations = Arrays.copyOf(validations, Math.max(16, size * 2));
+            validations[size++] = validation;
+            return this;
+        }
+
+        private Object[] values() {
+            final Object[] values = new Object[size];
+            for (int i = 0; i < size; i++) values[i] = validations[i].get();
+            return values;
+        }
+    }
+
+    // Valid values of a BuilderN, in the order of the validations
+    final class Values {
+
+        private final Object[] values;
+
+        private Values(Object[] values) {
+            this.values = values;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <V> V get(int index) {
+            return (V) values[index];
+        }
+
+        public <V> V get(int index, Class<V> type) {
+            Objects.requireNonNull(type, "type is null");
+            return type.cast(values[index]);
+        }
+
+        public int size() {
+            return values.length;
+        }
+
+        public List<Object> toList() {
+            return Collections.unmodifiableList(Arrays.asList(values));
+        }
     }
 }
 
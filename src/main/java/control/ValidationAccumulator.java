@@ -0,0 +1,162 @@
+package control;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Collects validations added concurrently by many threads. Each thread writes to its own buffer, without locking, and
+ * the buffers are merged by {@link #result()}:
+ * <pre>{@code
+ * ValidationAccumulator<String, Row> rows = ValidationAccumulator.ordered();
+ * IntStream.range(0, lines.size()).parallel().forEach(i -> rows.add(i, parse(lines.get(i))));
+ * Validation<List<String>, List<Row>> result = rows.result();
+ * }</pre>
+ * {@link #result()} must be called once the adding threads are done, e.g. after the parallel stream completed or the
+ * executor was awaited. Valid values are no longer kept once an error was added, since they will be dropped.
+ */
+public final class ValidationAccumulator<E, T> {
+
+    private final boolean ordered;
+    // Buffers are owned by the accumulator rather than by the threads, they are dropped with it
+    private final ConcurrentHashMap<Thread, Buffer> stripes = new ConcurrentHashMap<>();
+    private final Queue<Buffer> buffers = new ConcurrentLinkedQueue<>();
+    private volatile boolean invalid;
+
+    private ValidationAccumulator(boolean ordered) {
+        this.ordered = ordered;
+    }
+
+    // Results keep the order of each thread, threads follow each other in the order of their first add
+    public static <E, T> ValidationAccumulator<E, T> create() {
+        return new ValidationAccumulator<>(false);
+    }
+
+    // Results are sorted by the index given to add(long, Validation)
+    public static <E, T> ValidationAccumulator<E, T> ordered() {
+        return new ValidationAccumulator<>(true);
+    }
+
+    private Buffer buffer() {
+        final Thread thread = Thread.currentThread();
+        final Buffer buffer = stripes.get(thread);
+        return buffer != null ? buffer : stripes.computeIfAbsent(thread, ignored -> {
+            final Buffer created = new Buffer(ordered);
+            buffers.add(created);
+            return created;
+        });
+    }
+
+    public void add(Validation<? extends E, ? extends T> validation) {
+        if (ordered) throw new IllegalStateException("ordered accumulator requires an index");
+        add(0, validation);
+    }
+
+    // The index is ignored unless the accumulator is ordered
+    public void add(long index, Validation<? extends E, ? extends T> validation) {
+        Objects.requireNonNull(validation, "validation is null");
+        final Buffer buffer = buffer();
+        if (validation.isInvalid()) {
+            invalid = true;
+            buffer.errors.add(index, validation.getError());
+        } else if (!invalid) {
+            buffer.values.add(index, validation.get());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public Validation<List<E>, List<T>> result() {
+        return invalid ? Validation.invalid((List<E>) merge(true)) : Validation.valid((List<T>) merge(false));
+    }
+
+    private List<Object> merge(boolean errors) {
+        int size = 0;
+        for (Buffer buffer : buffers) size += buffer.run(errors).size;
+        final long[] indexes = ordered ? new long[size] : null;
+        final Object[] items = new Object[size];
+        int offset = 0;
+        for (Buffer buffer : buffers) {
+            final Run run = buffer.run(errors);
+            System.arraycopy(run.items, 0, items, offset, run.size);
+            if (ordered) System.arraycopy(run.indexes, 0, indexes, offset, run.size);
+            offset += run.size;
+        }
+        if (ordered) sort(indexes, items);
+        return Arrays.asList(items);
+    }
+
+    // Stable merge sort of the items by index, skipped when a single thread added everything in order
+    private static void sort(long[] indexes, Object[] items) {
+        int sorted = 1;
+        while (sorted < indexes.length && indexes[sorted - 1] <= indexes[sorted]) sorted++;
+        if (sorted >= indexes.length) return;
+        final long[] indexBuffer = new long[indexes.length];
+        final Object[] itemBuffer = new Object[items.length];
+        for (int width = 1; width < indexes.length; width <<= 1) {
+            for (int from = 0; from < indexes.length; from += width << 1) {
+                final int middle = Math.min(from + width, indexes.length);
+                final int to = Math.min(from + (width << 1), indexes.length);
+                int left = from, right = middle, out = from;
+                while (left < middle && right < to) {
+                    if (indexes[right] < indexes[left]) {
+                        indexBuffer[out] = indexes[right];
+                        itemBuffer[out++] = items[right++];
+                    } else {
+                        indexBuffer[out] = indexes[left];
+                        itemBuffer[out++] = items[left++];
+                    }
+                }
+                while (left < middle) {
+                    indexBuffer[out] = indexes[left];
+                    itemBuffer[out++] = items[left++];
+                }
+                while (right < to) {
+                    indexBuffer[out] = indexes[right];
+                    itemBuffer[out++] = items[right++];
+                }
+            }
+            System.arraycopy(indexBuffer, 0, indexes, 0, indexes.length);
+            System.arraycopy(itemBuffer, 0, items, 0, items.length);
+        }
+    }
+
+    // Written only by its owning thread
+    private static final class Buffer {
+
+        final Run values;
+        final Run errors;
+
+        Buffer(boolean ordered) {
+            this.values = new Run(ordered);
+            this.errors = new Run(ordered);
+        }
+
+        Run run(boolean errors) {
+            return errors ? this.errors : values;
+        }
+    }
+
+    private static final class Run {
+
+        private long[] indexes;
+        private Object[] items = new Object[0];
+        private int size;
+
+        Run(boolean ordered) {
+            this.indexes = ordered ? new long[0] : null;
+        }
+
+        void add(long index, Object item) {
+            if (size == items.length) {
+                final int capacity = Math.max(16, size * 2);
+                items = Arrays.copyOf(items, capacity);
+                if (indexes != null) indexes = Arrays.copyOf(indexes, capacity);
+            }
+            if (indexes != null) indexes[size] = index;
+            items[size++] = item;
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package control;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.DoublePredicate;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Rules run column by column over {@code rows} rows, each rule produces a validity mask with one bit per row and
+ * only the invalid rows are turned into error objects, on demand:
+ * <pre>{@code
+ * ValidationBatch.Result<String> result = ValidationBatch.<String>of(ages.length)
+ *         .ints(ages, age -> age >= 0, row -> "negative age at row " + row)
+ *         .column(names, name -> !name.isEmpty(), row -> "empty name at row " + row)
+ *         .validate();
+ * BitSet valid = result.validRows();
+ * }</pre>
+ * Errors are built from the row index, a rule is free to read any column to describe the failure.
+ */
+public final class ValidationBatch<E> {
+
+    private final int rows;
+    private final List<Rule<E>> rules;
+
+    private ValidationBatch(int rows, List<Rule<E>> rules) {
+        this.rows = rows;
+        this.rules = rules;
+    }
+
+    public static <E> Builder<E> of(int rows) {
+        if (rows < 0) throw new IllegalArgumentException("rows is negative");
+        return new Builder<>(rows);
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int ruleCount() {
+        return rules.size();
+    }
+
+    public Result<E> validate() {
+        final long[][] masks = new long[rules.size()][];
+        for (int rule = 0; rule < masks.length; rule++) {
+            final long[] words = new long[words(rows)];
+            rules.get(rule).mask(words, rows);
+            masks[rule] = words;
+        }
+        return new Result<>(rows, rules, masks);
+    }
+
+    static int words(int rows) {
+        return (rows + 63) >>> 6;
+    }
+
+    public static final class Builder<E> {
+
+        private final int rows;
+        private final List<Rule<E>> rules = new ArrayList<>();
+
+        private Builder(int rows) {
+            this.rows = rows;
+        }
+
+        public Builder<E> rule(IntPredicate validRow, IntFunction<? extends E> error) {
+            Objects.requireNonNull(validRow, "validRow is null");
+            Objects.requireNonNull(error, "error is null");
+            rules.add(new PredicateRule<>(validRow, error));
+            return this;
+        }
+
+        public Builder<E> ints(int[] column, IntPredicate valid, IntFunction<? extends E> error) {
+            Objects.requireNonNull(column, "column is null");
+            Objects.requireNonNull(valid, "valid is null");
+            checkLength(column.length);
+            return rule(row -> valid.test(column[row]), error);
+        }
+
+        public Builder<E> longs(long[] column, LongPredicate valid, IntFunction<? extends E> error) {
+            Objects.requireNonNull(column, "column is null");
+            Objects.requireNonNull(valid, "valid is null");
+            checkLength(column.length);
+            return rule(row -> valid.test(column[row]), error);
+        }
+
+        public Builder<E> doubles(double[] column, DoublePredicate valid, IntFunction<? extends E> error) {
+            Objects.requireNonNull(column, "column is null");
+            Objects.requireNonNull(valid, "valid is null");
+            checkLength(column.length);
+            return rule(row -> valid.test(column[row]), error);
+        }
+
+        public <T> Builder<E> column(T[] column, Predicate<? super T> valid, IntFunction<? extends E> error) {
+            Objects.requireNonNull(column, "column is null");
+            Objects.requireNonNull(valid, "valid is null");
+            checkLength(column.length);
+            return rule(row -> valid.test(column[row]), error);
+        }
+
+        public <T> Builder<E> column(List<? extends T> column, Predicate<? super T> valid, IntFunction<? extends E> error) {
+            Objects.requireNonNull(column, "column is null");
+            Objects.requireNonNull(valid, "valid is null");
+            checkLength(column.size());
+            return rule(row -> valid.test(column.get(row)), error);
+        }
+
+        // Checks below run over the raw column with the Vector API when it is available
+
+        public Builder<E> intRange(int[] column, int min, int max, IntFunction<? extends E> error) {
+            Objects.requireNonNull(column, "column is null");
+            checkLength(column.length);
+            return kernel((words, rows) -> MaskKernels.BEST.intRange(column, min, max, words, rows), error);
+        }
+
+        public Builder<E> longRange(long[] column, long min, long max, IntFunction<? extends E> error) {
+            Objects.requireNonNull(column, "column is null");
+            checkLength(column.length);
+            return kernel((words, rows) -> MaskKernels.BEST.longRange(column, min, max, words, rows), error);
+        }
+
+        // NaN is never in range
+        public Builder<E> doubleRange(double[] column, double min, double max, IntFunction<? extends E> error) {
+            Objects.requireNonNull(column, "column is null");
+            checkLength(column.length);
+            return kernel((words, rows) -> MaskKernels.BEST.doubleRange(column, min, max, words, rows), error);
+        }
+
+        public Builder<E> nonNegative(int[] column, IntFunction<? extends E> error) {
+            return intRange(column, 0, Integer.MAX_VALUE, error);
+        }
+
+        public Builder<E> nonNegative(long[] column, IntFunction<? extends E> error) {
+            return longRange(column, 0, Long.MAX_VALUE, error);
+        }
+
+        public Builder<E> notNaN(double[] column, IntFunction<? extends E> error) {
+            return doubleRange(column, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, error);
+        }
+
+        public Builder<E> notEqual(int[] column, int sentinel, IntFunction<? extends E> error) {
+            Objects.requireNonNull(column, "column is null");
+            checkLength(column.length);
+            return kernel((words, rows) -> MaskKernels.BEST.intNotEqual(column, sentinel, words, rows), error);
+        }
+
+        public Builder<E> notEqual(long[] column, long sentinel, IntFunction<? extends E> error) {
+            Objects.requireNonNull(column, "column is null");
+            checkLength(column.length);
+            return kernel((words, rows) -> MaskKernels.BEST.longNotEqual(column, sentinel, words, rows), error);
+        }
+
+        // A NaN sentinel matches every NaN
+        public Builder<E> notEqual(double[] column, double sentinel, IntFunction<? extends E> error) {
+            Objects.requireNonNull(column, "column is null");
+            checkLength(column.length);
+            return kernel((words, rows) -> MaskKernels.BEST.doubleNotEqual(column, sentinel, words, rows), error);
+        }
+
+        private Builder<E> kernel(ObjIntConsumer<long[]> mask, IntFunction<? extends E> error) {
+            Objects.requireNonNull(error, "error is null");
+            rules.add(new KernelRule<>(mask, error));
+            return this;
+        }
+
+        private void checkLength(int length) {
+            if (length != rows) {
+                throw new IllegalArgumentException("column has " + length + " rows, expected " + rows);
+            }
+        }
+
+        public ValidationBatch<E> build() {
+            return new ValidationBatch<>(rows, List.copyOf(rules));
+        }
+
+        public Result<E> validate() {
+            return build().validate();
+        }
+    }
+
+    public record RowError<E>(int row, int rule, E error) {
+    }
+
+    public static final class Result<E> {
+
+        private final int rows;
+        private final List<Rule<E>> rules;
+        private final long[][] masks;
+        private final long[] valid;
+        private List<RowError<E>> errors;
+
+        private Result(int rows, List<Rule<E>> rules, long[][] masks) {
+            this.rows = rows;
+            this.rules = rules;
+            this.masks = masks;
+            this.valid = new long[words(rows)];
+            for (int w = 0; w < valid.length; w++) {
+                long word = lastWordMask(w);
+                for (long[] mask : masks) word &= mask[w];
+                valid[w] = word;
+            }
+        }
+
+        public int rows() {
+            return rows;
+        }
+
+        // Bit set for every row that passes the rule
+        public BitSet mask(int rule) {
+            Objects.checkIndex(rule, masks.length);
+            return BitSet.valueOf(masks[rule]);
+        }
+
+        public BitSet validRows() {
+            return BitSet.valueOf(valid);
+        }
+
+        public boolean isValid(int row) {
+            Objects.checkIndex(row, rows);
+            return (valid[row >>> 6] & (1L << row)) != 0;
+        }
+
+        public int invalidCount() {
+            int count = rows;
+            for (long word : valid) count -= Long.bitCount(word);
+            return count;
+        }
+
+        public int[] invalidRows() {
+            final int[] indexes = new int[invalidCount()];
+            int i = 0;
+            for (int w = 0; w < valid.length; w++) {
+                long invalid = ~valid[w] & lastWordMask(w);
+                while (invalid != 0) {
+                    indexes[i++] = (w << 6) + Long.numberOfTrailingZeros(invalid);
+                    invalid &= invalid - 1;
+                }
+            }
+            return indexes;
+        }
+
+        public boolean isAllValid() {
+            return invalidCount() == 0;
+        }
+
+        // Ordered by row then by rule, only built for the rows that fail at least one rule
+        public synchronized List<RowError<E>> errors() {
+            if (errors == null) {
+                final List<RowError<E>> list = new ArrayList<>();
+                for (int w = 0; w < valid.length; w++) {
+                    long invalid = ~valid[w] & lastWordMask(w);
+                    while (invalid != 0) {
+                        final int row = (w << 6) + Long.numberOfTrailingZeros(invalid);
+                        for (int rule = 0; rule < masks.length; rule++) {
+                            if ((masks[rule][w] & (1L << row)) == 0) {
+                                list.add(new RowError<>(row, rule, rules.get(rule).error.apply(row)));
+                            }
+                        }
+                        invalid &= invalid - 1;
+                    }
+                }
+                errors = Collections.unmodifiableList(list);
+            }
+            return errors;
+        }
+
+        public Validation<List<RowError<E>>, BitSet> toValidation() {
+            return isAllValid() ? Validation.valid(validRows()) : Validation.invalid(errors());
+        }
+
+        private long lastWordMask(int word) {
+            final int remaining = rows - (word << 6);
+            return remaining >= 64 ? -1L : (1L << remaining) - 1;
+        }
+    }
+
+    abstract static class Rule<E> {
+
+        final IntFunction<? extends E> error;
+
+        Rule(IntFunction<? extends E> error) {
+            this.error = error;
+        }
+
+        // Sets the bit of every valid row, words are cleared beforehand
+        abstract void mask(long[] words, int rows);
+    }
+
+    static final class PredicateRule<E> extends Rule<E> {
+
+        private final IntPredicate validRow;
+
+        PredicateRule(IntPredicate validRow, IntFunction<? extends E> error) {
+            super(error);
+            this.validRow = validRow;
+        }
+
+        @Override
+        void mask(long[] words, int rows) {
+            for (int w = 0; w < words.length; w++) {
+                final int base = w << 6;
+                final int end = Math.min(64, rows - base);
+                long word = 0;
+                for (int bit = 0; bit < end; bit++) {
+                    if (validRow.test(base + bit)) word |= 1L << bit;
+                }
+                words[w] = word;
+            }
+        }
+    }
+
+    static final class KernelRule<E> extends Rule<E> {
+
+        private final ObjIntConsumer<long[]> mask;
+
+        KernelRule(ObjIntConsumer<long[]> mask, IntFunction<? extends E> error) {
+            super(error);
+            this.mask = mask;
+        }
+
+        @Override
+        void mask(long[] words, int rows) {
+            mask.accept(words, rows);
+        }
+    }
+}
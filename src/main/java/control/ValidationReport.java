@@ -0,0 +1,148 @@
+package control;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * Summary of a stream of validations kept in bounded memory: totals, the number of errors of each type and the first
+ * examples of each type. Valid values are counted and dropped.
+ * <pre>{@code
+ * ValidationReport<String, String> report = lines.map(Parser::parse)
+ *         .collect(ValidationReport.collector(error -> error.substring(0, error.indexOf(':')), 10));
+ * }</pre>
+ * Memory grows with the number of error types, the classifier should map errors to a small set of types. A report
+ * is not thread-safe, parallel streams build one report per thread and {@link #merge(ValidationReport)} them.
+ */
+public final class ValidationReport<E, K> {
+
+    private final Function<? super E, ? extends K> classifier;
+    private final int examplesPerType;
+    private final Map<K, Type<E>> types = new LinkedHashMap<>();
+    private long validCount;
+    private long invalidCount;
+
+    private ValidationReport(Function<? super E, ? extends K> classifier, int examplesPerType) {
+        this.classifier = classifier;
+        this.examplesPerType = examplesPerType;
+    }
+
+    public static <E, K> ValidationReport<E, K> of(Function<? super E, ? extends K> classifier, int examplesPerType) {
+        Objects.requireNonNull(classifier, "classifier is null");
+        if (examplesPerType < 0) throw new IllegalArgumentException("examplesPerType is negative");
+        return new ValidationReport<>(classifier, examplesPerType);
+    }
+
+    // Each distinct error is its own type, for errors taken from a fixed catalogue such as an enum
+    public static <E> ValidationReport<E, E> of(int examplesPerType) {
+        return of(Function.identity(), examplesPerType);
+    }
+
+    public static <E, K> Collector<Validation<? extends E, ?>, ?, ValidationReport<E, K>> collector(Function<? super E, ? extends K> classifier, int examplesPerType) {
+        Objects.requireNonNull(classifier, "classifier is null");
+        if (examplesPerType < 0) throw new IllegalArgumentException("examplesPerType is negative");
+        return Collector.of(() -> of(classifier, examplesPerType), ValidationReport::accept, ValidationReport::merge);
+    }
+
+    // Left values are the errors
+    public static <E, K> Collector<Either<? extends E, ?>, ?, ValidationReport<E, K>> eitherCollector(Function<? super E, ? extends K> classifier, int examplesPerType) {
+        Objects.requireNonNull(classifier, "classifier is null");
+        if (examplesPerType < 0) throw new IllegalArgumentException("examplesPerType is negative");
+        return Collector.of(() -> of(classifier, examplesPerType), ValidationReport::accept, ValidationReport::merge);
+    }
+
+    public void accept(Validation<? extends E, ?> validation) {
+        Objects.requireNonNull(validation, "validation is null");
+        if (validation.isInvalid()) acceptError(validation.getError());
+        else validCount++;
+    }
+
+    public void accept(Either<? extends E, ?> either) {
+        Objects.requireNonNull(either, "either is null");
+        if (either.isLeft()) acceptError(either.getLeft());
+        else validCount++;
+    }
+
+    public void acceptValid() {
+        validCount++;
+    }
+
+    public void acceptError(E error) {
+        Objects.requireNonNull(error, "error is null");
+        invalidCount++;
+        final Type<E> type = types.computeIfAbsent(classifier.apply(error), ignored -> new Type<>());
+        type.count++;
+        if (type.examples.size() < examplesPerType) type.examples.add(error);
+    }
+
+    // Adds the other report to this one, examples of this report come first
+    public ValidationReport<E, K> merge(ValidationReport<E, K> other) {
+        Objects.requireNonNull(other, "other is null");
+        validCount += other.validCount;
+        invalidCount += other.invalidCount;
+        other.types.forEach((key, otherType) -> {
+            final Type<E> type = types.computeIfAbsent(key, ignored -> new Type<>());
+            type.count += otherType.count;
+            for (E example : otherType.examples) {
+                if (type.examples.size() >= examplesPerType) break;
+                type.examples.add(example);
+            }
+        });
+        return this;
+    }
+
+    public long total() {
+        return validCount + invalidCount;
+    }
+
+    public long validCount() {
+        return validCount;
+    }
+
+    public long invalidCount() {
+        return invalidCount;
+    }
+
+    public boolean isAllValid() {
+        return invalidCount == 0;
+    }
+
+    public long count(K type) {
+        final Type<E> entry = types.get(type);
+        return entry == null ? 0 : entry.count;
+    }
+
+    // Error types in the order they were first seen
+    public Map<K, Long> counts() {
+        final Map<K, Long> counts = new LinkedHashMap<>();
+        types.forEach((key, type) -> counts.put(key, type.count));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    public List<E> examples(K type) {
+        final Type<E> entry = types.get(type);
+        return entry == null ? Collections.emptyList() : Collections.unmodifiableList(entry.examples);
+    }
+
+    public Map<K, List<E>> examples() {
+        final Map<K, List<E>> examples = new LinkedHashMap<>();
+        types.forEach((key, type) -> examples.put(key, Collections.unmodifiableList(type.examples)));
+        return Collections.unmodifiableMap(examples);
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationReport(total=" + total() + ", valid=" + validCount + ", invalid=" + invalidCount + ", " + counts() + ")";
+    }
+
+    private static final class Type<E> {
+
+        private final List<E> examples = new ArrayList<>();
+        private long count;
+    }
+}
@@ -0,0 +1,152 @@
+package control;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Field rules declared once and checked in declaration order, without building an intermediate {@code Validation}
+ * per field:
+ * <pre>{@code
+ * Validator<Person, String> validator = Validator.<Person, String>builder()
+ *         .rule(Person::name, name -> !name.isBlank(), "name is blank")
+ *         .rule(Person::age, age -> age >= 0, age -> "negative age " + age)
+ *         .build();
+ * Validation<List<String>, Person> result = validator.validate(person);
+ * }</pre>
+ * A validator is immutable and can be shared between threads.
+ */
+public final class Validator<T, E> {
+
+    private final FieldRule<T, ?, E>[] rules;
+    private final boolean failFast;
+    private final Executor executor;
+
+    private Validator(FieldRule<T, ?, E>[] rules, boolean failFast, Executor executor) {
+        this.rules = rules;
+        this.failFast = failFast;
+        this.executor = executor;
+    }
+
+    public static <T, E> Builder<T, E> builder() {
+        return new Builder<>();
+    }
+
+    public Validation<List<E>, T> validate(T value) {
+        Objects.requireNonNull(value, "value is null");
+        if (executor != null) return validateParallel(value);
+
+        List<E> errors = null;
+        for (FieldRule<T, ?, E> rule : rules) {
+            final E error = rule.check(value);
+            if (error != null) {
+                if (failFast) return Validation.invalid(List.of(error));
+                if (errors == null) errors = new ArrayList<>();
+                errors.add(error);
+            }
+        }
+        return errors == null ? Validation.valid(value) : Validation.invalid(errors);
+    }
+
+    // Same checks as validate without building errors
+    public boolean isValid(T value) {
+        Objects.requireNonNull(value, "value is null");
+        for (FieldRule<T, ?, E> rule : rules) {
+            if (!rule.test(value)) return false;
+        }
+        return true;
+    }
+
+    public int ruleCount() {
+        return rules.length;
+    }
+
+    // Every rule runs on the executor, errors keep the declaration order and fail-fast keeps only the first one
+    private Validation<List<E>, T> validateParallel(T value) {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        final CompletableFuture<E>[] checks = new CompletableFuture[rules.length];
+        for (int i = 0; i < rules.length; i++) {
+            final FieldRule<T, ?, E> rule = rules[i];
+            checks[i] = CompletableFuture.supplyAsync(() -> rule.check(value), executor);
+        }
+        List<E> errors = null;
+        for (CompletableFuture<E> check : checks) {
+            final E error;
+            try {
+                error = check.join();
+            } catch (CompletionException e) {
+                return Failure.sneakyThrow(e.getCause() == null ? e : e.getCause());
+            }
+            if (error != null) {
+                if (failFast) return Validation.invalid(List.of(error));
+                if (errors == null) errors = new ArrayList<>();
+                errors.add(error);
+            }
+        }
+        return errors == null ? Validation.valid(value) : Validation.invalid(errors);
+    }
+
+    public static final class Builder<T, E> {
+
+        private final List<FieldRule<T, ?, E>> rules = new ArrayList<>();
+        private boolean failFast;
+        private Executor executor;
+
+        private Builder() {
+        }
+
+        public <F> Builder<T, E> rule(Function<? super T, ? extends F> accessor, Predicate<? super F> predicate, E error) {
+            Objects.requireNonNull(error, "error is null");
+            return rule(accessor, predicate, ignored -> error);
+        }
+
+        public <F> Builder<T, E> rule(Function<? super T, ? extends F> accessor, Predicate<? super F> predicate, Function<? super F, ? extends E> error) {
+            Objects.requireNonNull(accessor, "accessor is null");
+            Objects.requireNonNull(predicate, "predicate is null");
+            Objects.requireNonNull(error, "error is null");
+            rules.add(new FieldRule<>(accessor, predicate, error));
+            return this;
+        }
+
+        // Rule over the whole value, for constraints between fields
+        public Builder<T, E> rule(Predicate<? super T> predicate, E error) {
+            return rule(Function.identity(), predicate, error);
+        }
+
+        // Stops at the first failing rule
+        public Builder<T, E> failFast() {
+            this.failFast = true;
+            return this;
+        }
+
+        // Runs the rules of one validation concurrently, only worth it when rules are expensive
+        public Builder<T, E> parallel(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "executor is null");
+            return this;
+        }
+
+        public Validator<T, E> build() {
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            final FieldRule<T, ?, E>[] array = rules.toArray(new FieldRule[0]);
+            return new Validator<>(array, failFast, executor);
+        }
+    }
+
+    private record FieldRule<T, F, E>(Function<? super T, ? extends F> accessor, Predicate<? super F> predicate, Function<? super F, ? extends E> error) {
+
+        boolean test(T value) {
+            return predicate.test(accessor.apply(value));
+        }
+
+        // null when the rule holds
+        E check(T value) {
+            final F field = accessor.apply(value);
+            return predicate.test(field) ? null : Objects.requireNonNull(error.apply(field), "error is null");
+        }
+    }
+}
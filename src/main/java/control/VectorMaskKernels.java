@@ -0,0 +1,108 @@
+package control;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Only loaded through MaskKernels.BEST, lane counts are powers of two so a chunk never spans two words
+final class VectorMaskKernels implements MaskKernels {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void intRange(int[] column, int min, int max, long[] words, int rows) {
+        clear(words, rows);
+        final int bound = INTS.loopBound(rows);
+        int i = 0;
+        for (; i < bound; i += INTS.length()) {
+            final IntVector v = IntVector.fromArray(INTS, column, i);
+            set(words, i, v.compare(VectorOperators.GE, min).and(v.compare(VectorOperators.LE, max)).toLong());
+        }
+        for (; i < rows; i++) {
+            if (column[i] >= min && column[i] <= max) words[i >>> 6] |= 1L << i;
+        }
+    }
+
+    @Override
+    public void longRange(long[] column, long min, long max, long[] words, int rows) {
+        clear(words, rows);
+        final int bound = LONGS.loopBound(rows);
+        int i = 0;
+        for (; i < bound; i += LONGS.length()) {
+            final LongVector v = LongVector.fromArray(LONGS, column, i);
+            set(words, i, v.compare(VectorOperators.GE, min).and(v.compare(VectorOperators.LE, max)).toLong());
+        }
+        for (; i < rows; i++) {
+            if (column[i] >= min && column[i] <= max) words[i >>> 6] |= 1L << i;
+        }
+    }
+
+    @Override
+    public void doubleRange(double[] column, double min, double max, long[] words, int rows) {
+        clear(words, rows);
+        final int bound = DOUBLES.loopBound(rows);
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            final DoubleVector v = DoubleVector.fromArray(DOUBLES, column, i);
+            set(words, i, v.compare(VectorOperators.GE, min).and(v.compare(VectorOperators.LE, max)).toLong());
+        }
+        for (; i < rows; i++) {
+            if (column[i] >= min && column[i] <= max) words[i >>> 6] |= 1L << i;
+        }
+    }
+
+    @Override
+    public void intNotEqual(int[] column, int sentinel, long[] words, int rows) {
+        clear(words, rows);
+        final int bound = INTS.loopBound(rows);
+        int i = 0;
+        for (; i < bound; i += INTS.length()) {
+            set(words, i, IntVector.fromArray(INTS, column, i).compare(VectorOperators.NE, sentinel).toLong());
+        }
+        for (; i < rows; i++) {
+            if (column[i] != sentinel) words[i >>> 6] |= 1L << i;
+        }
+    }
+
+    @Override
+    public void longNotEqual(long[] column, long sentinel, long[] words, int rows) {
+        clear(words, rows);
+        final int bound = LONGS.loopBound(rows);
+        int i = 0;
+        for (; i < bound; i += LONGS.length()) {
+            set(words, i, LongVector.fromArray(LONGS, column, i).compare(VectorOperators.NE, sentinel).toLong());
+        }
+        for (; i < rows; i++) {
+            if (column[i] != sentinel) words[i >>> 6] |= 1L << i;
+        }
+    }
+
+    @Override
+    public void doubleNotEqual(double[] column, double sentinel, long[] words, int rows) {
+        clear(words, rows);
+        final boolean nan = Double.isNaN(sentinel);
+        final int bound = DOUBLES.loopBound(rows);
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            final DoubleVector v = DoubleVector.fromArray(DOUBLES, column, i);
+            set(words, i, (nan ? v.test(VectorOperators.IS_NAN).not() : v.compare(VectorOperators.NE, sentinel)).toLong());
+        }
+        for (; i < rows; i++) {
+            final double value = column[i];
+            if (nan ? value == value : value != sentinel) words[i >>> 6] |= 1L << i;
+        }
+    }
+
+    private static void set(long[] words, int row, long lanes) {
+        words[row >>> 6] |= lanes << row;
+    }
+
+    private static void clear(long[] words, int rows) {
+        final int used = (rows + 63) >>> 6;
+        for (int w = 0; w < used; w++) words[w] = 0;
+    }
+}
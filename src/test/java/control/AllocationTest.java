@@ -0,0 +1,185 @@
+package control;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Operations that must not allocate once compiled, measured with the per-thread allocation counter of HotSpot.
+ * Every operation runs enough times to be compiled before being measured, a single object per call would show
+ * as at least 16 bytes per iteration so the threshold of one byte per iteration leaves room for the noise of the
+ * counter itself.
+ */
+public class AllocationTest {
+
+    private static final int WARM_UP = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    private static final Function<Integer, Integer> INCREMENT = i -> i + 1;
+    private static final Function<Integer, Try<Integer>> TRY_INCREMENT = i -> Try.success(i + 1);
+    private static final Consumer<Integer> IGNORE = i -> {
+    };
+
+    private static final Option<Integer> NONE = Option.none();
+    private static final Option<Integer> SOME = Option.some(1);
+    private static final Try<Integer> FAILURE = Try.failure(new IOException());
+    private static final Either<String, Integer> LEFT = Either.left("error");
+    private static final Validation<String, Integer> INVALID = Validation.invalid("error");
+    private static final OptionMap<String, Integer> TABLE = OptionMap.of(Map.of("present", 1));
+
+    private static final IOException CAUSE = new IOException();
+    private static final TryFn<Integer, Integer> TRY_SUCCESS = TryFn.<Integer>identity().map(INCREMENT).mapTry(i -> i + 1).filter(i -> i > 0);
+    private static final TryFn<Integer, Integer> TRY_FAILURE = TryFn.<Integer>identity().map(INCREMENT).mapTry(i -> {
+        throw CAUSE;
+    });
+    private static final TryFn<Integer, Integer> TRY_RECOVER = TRY_FAILURE.map(INCREMENT).recover(t -> 0);
+    private static final OptionFn<Integer, Integer> OPTION_SOME = OptionFn.<Integer>identity().map(INCREMENT).filter(i -> i > 0);
+    private static final OptionFn<Integer, Integer> OPTION_NONE = OPTION_SOME.filter(i -> i < 0).map(INCREMENT);
+    private static final OptionFn<Integer, Integer> OPTION_OR_ELSE = OPTION_NONE.orElse(() -> SOME).map(INCREMENT);
+    private static final EitherFn<Integer, String, Integer> EITHER_RIGHT = EitherFn.<String, Integer>identity().map(INCREMENT).filterOrElse(i -> i > 0, i -> "negative");
+    private static final EitherFn<Integer, String, Integer> EITHER_LEFT = EITHER_RIGHT.filterOrElse(i -> i < 0, i -> "positive").map(INCREMENT);
+    private static final EitherFn<Integer, String, Integer> EITHER_RECOVER = EITHER_LEFT.recover(error -> 0).map(INCREMENT);
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    // Keeps the results reachable so that the measured operations are not eliminated
+    private static volatile Object sink;
+
+    @BeforeAll
+    public static void enableAllocationCounter() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "allocation counter not available on this JVM");
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "allocation counter not supported");
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    private static long allocatedBytes(Runnable operation) {
+        for (int i = 0; i < WARM_UP; i++) operation.run();
+        final long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) operation.run();
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    private static void assertNoAllocation(Runnable operation) {
+        assertThat(allocatedBytes(operation)).isLessThan(ITERATIONS);
+    }
+
+    // A control holding one reference takes 16 bytes, 24 without compressed oops, any second object reaches 32
+    private static void assertAtMostOneResult(Runnable operation) {
+        assertThat(allocatedBytes(operation) / ITERATIONS).isLessThan(32);
+    }
+
+    // -- map / flatMap on the empty side
+
+    @Test
+    public void noneMapShouldNotAllocate() {
+        assertNoAllocation(() -> sink = NONE.map(INCREMENT));
+    }
+
+    @Test
+    public void noneFlatMapShouldNotAllocate() {
+        assertNoAllocation(() -> sink = NONE.flatMap(Option::some));
+    }
+
+    @Test
+    public void failureMapShouldNotAllocate() {
+        assertNoAllocation(() -> sink = FAILURE.map(INCREMENT));
+    }
+
+    @Test
+    public void failureFlatMapShouldNotAllocate() {
+        assertNoAllocation(() -> sink = FAILURE.flatMap(TRY_INCREMENT));
+    }
+
+    @Test
+    public void leftMapShouldNotAllocate() {
+        assertNoAllocation(() -> sink = LEFT.map(INCREMENT));
+    }
+
+    @Test
+    public void invalidMapShouldNotAllocate() {
+        assertNoAllocation(() -> sink = INVALID.map(INCREMENT));
+    }
+
+    // -- getOrElse
+
+    @Test
+    public void optionGetOrElseShouldNotAllocate() {
+        final Integer other = 0;
+        assertNoAllocation(() -> sink = SOME.getOrElse(other));
+        assertNoAllocation(() -> sink = NONE.getOrElse(other));
+    }
+
+    // -- forEach / iterator
+
+    @Test
+    public void forEachOnEmptyControlsShouldNotAllocate() {
+        assertNoAllocation(() -> NONE.forEach(IGNORE));
+        assertNoAllocation(() -> FAILURE.forEach(IGNORE));
+        assertNoAllocation(() -> LEFT.forEach(IGNORE));
+        assertNoAllocation(() -> INVALID.forEach(IGNORE));
+    }
+
+    @Test
+    public void iteratingEmptyControlShouldNotAllocate() {
+        assertNoAllocation(() -> {
+            for (Integer value : NONE) sink = value;
+        });
+    }
+
+    // Escape analysis does not reliably remove the iterator of a present value, at most that iterator is allocated
+    @Test
+    public void iteratingSomeShouldAllocateAtMostTheIterator() {
+        final long bytes = allocatedBytes(() -> {
+            for (Integer value : SOME) sink = value;
+        });
+        assertThat(bytes / ITERATIONS).isLessThanOrEqualTo(32);
+    }
+
+    // -- OptionMap lookups
+
+    @Test
+    public void optionMapHitShouldNotAllocate() {
+        assertNoAllocation(() -> sink = TABLE.get("present"));
+    }
+
+    @Test
+    public void optionMapMissShouldNotAllocate() {
+        assertNoAllocation(() -> sink = TABLE.get("absent"));
+    }
+
+    // -- fused pipelines, the steps and the map adapters are built once, an application allocates at most its result
+
+    @Test
+    public void tryFnShouldAllocateAtMostTheResult() {
+        final Integer value = 1;
+        assertAtMostOneResult(() -> sink = TRY_SUCCESS.apply(value));
+        assertAtMostOneResult(() -> sink = TRY_FAILURE.apply(value));
+        assertAtMostOneResult(() -> sink = TRY_RECOVER.apply(value));
+    }
+
+    @Test
+    public void optionFnShouldAllocateAtMostTheResult() {
+        final Integer value = 1;
+        assertAtMostOneResult(() -> sink = OPTION_SOME.apply(value));
+        assertNoAllocation(() -> sink = OPTION_NONE.apply(value));
+        assertAtMostOneResult(() -> sink = OPTION_OR_ELSE.apply(value));
+    }
+
+    @Test
+    public void eitherFnShouldAllocateAtMostTheResult() {
+        final Integer value = 1;
+        assertAtMostOneResult(() -> sink = EITHER_RIGHT.apply(value));
+        assertAtMostOneResult(() -> sink = EITHER_LEFT.apply(value));
+        assertAtMostOneResult(() -> sink = EITHER_RECOVER.apply(value));
+    }
+}
@@ -0,0 +1,51 @@
+package control;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EitherFnTest {
+
+    private final EitherFn<String, String, Integer> age = EitherFn.<String, String>identity()
+            .filterOrElse(s -> s.matches("\\d+"), s -> "not a number: " + s)
+            .map(Integer::parseInt);
+
+    @Test
+    public void shouldApplyAllStepsToRight() {
+        assertThat(age.apply("42")).isEqualTo(Either.right(42));
+    }
+
+    @Test
+    public void shouldTurnIntoLeftWhenFilterDoesNotHold() {
+        assertThat(age.apply("x")).isEqualTo(Either.left("not a number: x"));
+    }
+
+    @Test
+    public void shouldFlatMap() {
+        final EitherFn<String, String, Integer> adult = age.flatMap(i -> i >= 18 ? Either.right(i) : Either.left("minor"));
+        assertThat(adult.apply("20")).isEqualTo(Either.right(20));
+        assertThat(adult.apply("10")).isEqualTo(Either.left("minor"));
+        assertThat(adult.apply("x")).isEqualTo(Either.left("not a number: x"));
+    }
+
+    @Test
+    public void shouldMapLeft() {
+        final EitherFn<String, Integer, Integer> errorLength = age.mapLeft(String::length);
+        assertThat(errorLength.apply("x")).isEqualTo(Either.left(15));
+        assertThat(errorLength.apply("1")).isEqualTo(Either.right(1));
+    }
+
+    @Test
+    public void shouldRecover() {
+        assertThat(age.recover(String::length).map(i -> i + 1).apply("x")).isEqualTo(Either.right(16));
+        assertThat(age.recoverWith(l -> Either.left("failed")).apply("x")).isEqualTo(Either.left("failed"));
+        assertThat(age.recoverWith(l -> Either.right(0)).apply("1")).isEqualTo(Either.right(1));
+    }
+
+    @Test
+    public void shouldApplyToEither() {
+        assertThat(age.applyEither(Either.left("error"))).isEqualTo(Either.left("error"));
+        assertThat(age.applyEither(Either.right("3"))).isEqualTo(Either.right(3));
+        assertThat(EitherFn.<String, String, Integer>of(s -> Either.right(s.length())).apply("abc")).isEqualTo(Either.right(3));
+    }
+}
@@ -0,0 +1,107 @@
+package control;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ErrorSetTest {
+
+    enum Code {
+        EMPTY_NAME, NEGATIVE_AGE, INVALID_EMAIL, TOO_LONG
+    }
+
+    // More than 64 constants, kept in a long[]
+    enum Big {
+        B0, B1, B2, B3, B4, B5, B6, B7, B8, B9, B10, B11, B12, B13, B14, B15, B16, B17, B18, B19, B20, B21, B22, B23, B24, B25, B26, B27, B28, B29, B30, B31, B32, B33, B34, B35, B36, B37, B38, B39, B40, B41, B42, B43, B44, B45, B46, B47, B48, B49, B50, B51, B52, B53, B54, B55, B56, B57, B58, B59, B60, B61, B62, B63, B64, B65, B66, B67, B68, B69
+    }
+
+    record User(String name, int age) {
+    }
+
+    @Test
+    public void shouldCacheSingleErrors() {
+        assertThat(ErrorSet.of(Code.TOO_LONG)).isSameAs(ErrorSet.of(Code.TOO_LONG));
+        assertThat(ErrorSet.of(Code.TOO_LONG).toList()).containsExactly(Code.TOO_LONG);
+        assertThat(ErrorSet.empty(Code.class).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void shouldUnionInOrdinalOrder() {
+        final ErrorSet<Code> errors = ErrorSet.of(Code.TOO_LONG).union(ErrorSet.of(Code.EMPTY_NAME)).with(Code.TOO_LONG);
+        assertThat(errors.toList()).containsExactly(Code.EMPTY_NAME, Code.TOO_LONG);
+        assertThat(errors.size()).isEqualTo(2);
+        assertThat(errors.contains(Code.EMPTY_NAME)).isTrue();
+        assertThat(errors.contains(Code.NEGATIVE_AGE)).isFalse();
+        assertThat(errors.toEnumSet()).isEqualTo(EnumSet.of(Code.EMPTY_NAME, Code.TOO_LONG));
+        assertThat(errors).isEqualTo(ErrorSet.of(Code.EMPTY_NAME, Code.TOO_LONG));
+        assertThat(errors).hasToString("ErrorSet[EMPTY_NAME, TOO_LONG]");
+    }
+
+    @Test
+    public void shouldReturnSameSetWhenUnionAddsNothing() {
+        final ErrorSet<Code> errors = ErrorSet.of(Code.EMPTY_NAME, Code.TOO_LONG);
+        assertThat(errors.union(ErrorSet.of(Code.TOO_LONG))).isSameAs(errors);
+        assertThat(ErrorSet.of(Code.TOO_LONG).union(errors)).isSameAs(errors);
+    }
+
+    @Test
+    public void shouldHandleEnumsAboveSixtyFourConstants() {
+        final ErrorSet<Big> errors = ErrorSet.of(Big.B69, Big.B1, Big.B64, Big.B63);
+        assertThat(errors.toList()).containsExactly(Big.B1, Big.B63, Big.B64, Big.B69);
+        assertThat(errors.contains(Big.B64)).isTrue();
+        assertThat(errors.contains(Big.B65)).isFalse();
+        assertThat(errors.union(ErrorSet.of(Big.B1))).isSameAs(errors);
+        assertThat(errors.union(ErrorSet.of(Big.B2)).size()).isEqualTo(5);
+        assertThat(ErrorSet.empty(Big.class).toList()).isEmpty();
+        assertThat(errors).isEqualTo(ErrorSet.of(Big.B1, Big.B63, Big.B64, Big.B69));
+    }
+
+    @Test
+    public void shouldMergeCombinedValidations() {
+        final Validation<ErrorSet<Code>, String> name = ErrorSet.invalid(Code.EMPTY_NAME);
+        final Validation<ErrorSet<Code>, Integer> age = ErrorSet.invalid(Code.NEGATIVE_AGE);
+
+        final Validation<ErrorSet<Code>, User> user = Validation.combine(name, age).ap(ErrorSet::union, User::new);
+        assertThat(user.getError().toList()).containsExactly(Code.EMPTY_NAME, Code.NEGATIVE_AGE);
+
+        final Validation<ErrorSet<Code>, User> valid = Validation.<ErrorSet<Code>, String, Integer>combine(Validation.valid("Ann"), Validation.valid(30))
+                .ap(ErrorSet::union, User::new);
+        assertThat(valid).isEqualTo(Validation.valid(new User("Ann", 30)));
+    }
+
+    @Test
+    public void shouldMergeSequenceAndAp() {
+        final List<Validation<ErrorSet<Code>, Integer>> values = List.of(
+                Validation.valid(1), ErrorSet.invalid(Code.TOO_LONG), ErrorSet.invalid(Code.EMPTY_NAME), ErrorSet.invalid(Code.TOO_LONG));
+        assertThat(Validation.sequence(values, ErrorSet::union).getError()).isEqualTo(ErrorSet.of(Code.EMPTY_NAME, Code.TOO_LONG));
+        assertThat(Validation.sequence(List.of(Validation.<ErrorSet<Code>, Integer>valid(1), Validation.valid(2)), ErrorSet::union))
+                .isEqualTo(Validation.valid(List.of(1, 2)));
+
+        final Validation<ErrorSet<Code>, Integer> invalid = ErrorSet.invalid(Code.TOO_LONG);
+        assertThat(invalid.ap(ErrorSet.<Code, Function<Integer, Integer>>invalid(Code.EMPTY_NAME), ErrorSet::union).getError())
+                .isEqualTo(ErrorSet.of(Code.EMPTY_NAME, Code.TOO_LONG));
+
+        assertThat(Validation.<ErrorSet<Code>>combineAll(invalid, Validation.valid(2), ErrorSet.invalid(Code.INVALID_EMAIL))
+                .ap(ErrorSet::union, v -> 0).getError().toList()).containsExactly(Code.INVALID_EMAIL, Code.TOO_LONG);
+    }
+
+    @Test
+    public void shouldSerialize() {
+        final ErrorSet<Code> errors = ErrorSet.of(Code.EMPTY_NAME, Code.TOO_LONG);
+        final ErrorSet<Code> copy = Serializables.deserialize(Serializables.serialize(errors));
+        assertThat(copy).isEqualTo(errors);
+        assertThat(copy.toList()).containsExactly(Code.EMPTY_NAME, Code.TOO_LONG);
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void shouldRejectOtherEnum() {
+        final ErrorSet raw = ErrorSet.of(Big.B0);
+        assertThatThrownBy(() -> ErrorSet.of(Code.TOO_LONG).union(raw)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
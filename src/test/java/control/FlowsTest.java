@@ -0,0 +1,328 @@
+package control;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FlowsTest {
+
+    // -- mapTry
+
+    @Test
+    public void shouldMapEachElementToTry() {
+        final IterablePublisher<String> publisher = new IterablePublisher<>(List.of("1", "x", "3"));
+        final Flow.Processor<String, Try<Integer>> processor = Flows.mapTry(Integer::parseInt);
+        final RecordingSubscriber<Try<Integer>> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+
+        processor.subscribe(subscriber);
+        publisher.subscribe(processor);
+
+        assertThat(subscriber.items).hasSize(3);
+        assertThat(subscriber.items.get(0)).isEqualTo(Try.success(1));
+        assertThat(subscriber.items.get(1).getCause()).isInstanceOf(NumberFormatException.class);
+        assertThat(subscriber.items.get(2)).isEqualTo(Try.success(3));
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    public void shouldPropagateDemandThroughTryProcessor() {
+        final IterablePublisher<Integer> publisher = new IterablePublisher<>(List.of(1, 2, 3, 4));
+        final Flow.Processor<Integer, Try<Integer>> processor = Flows.mapTry(i -> i * 2);
+        final RecordingSubscriber<Try<Integer>> subscriber = new RecordingSubscriber<>(1);
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        assertThat(subscriber.items).containsExactly(Try.success(2));
+        assertThat(publisher.emitted).isEqualTo(1);
+
+        subscriber.request(2);
+        assertThat(subscriber.items).containsExactly(Try.success(2), Try.success(4), Try.success(6));
+        assertThat(subscriber.completed).isFalse();
+    }
+
+    @Test
+    public void shouldDeliverUpstreamCompletionAfterSubscription() {
+        final Flow.Processor<Integer, Try<Integer>> processor = Flows.mapTry(i -> i);
+        publisherOf(List.<Integer>of()).subscribe(processor);
+
+        final RecordingSubscriber<Try<Integer>> subscriber = new RecordingSubscriber<>(1);
+        processor.subscribe(subscriber);
+
+        assertThat(subscriber.subscribed).isTrue();
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    public void shouldRejectSecondSubscriberOfTryProcessor() {
+        final Flow.Processor<Integer, Try<Integer>> processor = Flows.mapTry(i -> i);
+        processor.subscribe(new RecordingSubscriber<>(1));
+
+        final RecordingSubscriber<Try<Integer>> second = new RecordingSubscriber<>(1);
+        processor.subscribe(second);
+
+        assertThat(second.error).isInstanceOf(IllegalStateException.class);
+    }
+
+    // -- split
+
+    @Test
+    public void shouldRouteLeftsAndRights() {
+        final RecordingSubscriber<String> lefts = new RecordingSubscriber<>(Long.MAX_VALUE);
+        final RecordingSubscriber<Integer> rights = new RecordingSubscriber<>(Long.MAX_VALUE);
+
+        publisherOf(List.<Either<String, Integer>>of(Either.right(1), Either.left("a"), Either.right(2), Either.left("b")))
+                .subscribe(Flows.split(lefts, rights));
+
+        assertThat(lefts.items).containsExactly("a", "b");
+        assertThat(rights.items).containsExactly(1, 2);
+        assertThat(lefts.completed).isTrue();
+        assertThat(rights.completed).isTrue();
+    }
+
+    @Test
+    public void shouldBufferSideWithoutDemandUpToBufferSize() {
+        final List<Either<String, Integer>> items = new ArrayList<>();
+        for (int i = 0; i < 10; i++) items.add(Either.right(i));
+        final IterablePublisher<Either<String, Integer>> publisher = new IterablePublisher<>(items);
+        final RecordingSubscriber<String> lefts = new RecordingSubscriber<>(Long.MAX_VALUE);
+        final RecordingSubscriber<Integer> rights = new RecordingSubscriber<>(0);
+
+        publisher.subscribe(Flows.split(lefts, rights, 4));
+
+        assertThat(publisher.emitted).isEqualTo(4);
+        assertThat(rights.items).isEmpty();
+
+        rights.request(2);
+        assertThat(rights.items).containsExactly(0, 1);
+        assertThat(publisher.emitted).isEqualTo(6);
+
+        rights.request(Long.MAX_VALUE);
+        assertThat(rights.items).hasSize(10);
+        assertThat(rights.completed).isTrue();
+        assertThat(lefts.completed).isTrue();
+    }
+
+    @Test
+    public void shouldKeepFeedingOtherSideWhenOneSideCancels() {
+        final RecordingSubscriber<String> lefts = new RecordingSubscriber<>(0);
+        final RecordingSubscriber<Integer> rights = new RecordingSubscriber<>(Long.MAX_VALUE);
+        final IterablePublisher<Either<String, Integer>> publisher = new IterablePublisher<>(
+                List.of(Either.left("a"), Either.left("b"), Either.right(1), Either.left("c"), Either.right(2)));
+
+        final Flow.Subscriber<Either<String, Integer>> splitter = Flows.split(lefts, rights, 1);
+        publisher.subscribe(splitter);
+        assertThat(rights.items).isEmpty();
+
+        lefts.subscription.cancel();
+        assertThat(rights.items).containsExactly(1, 2);
+        assertThat(rights.completed).isTrue();
+        assertThat(lefts.items).isEmpty();
+    }
+
+    @Test
+    public void shouldCancelUpstreamWhenBothSidesCancel() {
+        final RecordingSubscriber<String> lefts = new RecordingSubscriber<>(0);
+        final RecordingSubscriber<Integer> rights = new RecordingSubscriber<>(0);
+        final IterablePublisher<Either<String, Integer>> publisher = new IterablePublisher<>(List.of(Either.right(1)));
+
+        publisher.subscribe(Flows.split(lefts, rights));
+        lefts.subscription.cancel();
+        rights.subscription.cancel();
+
+        assertThat(publisher.cancelled).isTrue();
+    }
+
+    @Test
+    public void shouldPropagateErrorToBothSides() {
+        final RecordingSubscriber<String> lefts = new RecordingSubscriber<>(Long.MAX_VALUE);
+        final RecordingSubscriber<Integer> rights = new RecordingSubscriber<>(Long.MAX_VALUE);
+        final Flow.Subscriber<Either<String, Integer>> splitter = Flows.split(lefts, rights);
+        final IOException error = new IOException();
+
+        splitter.onSubscribe(new IterablePublisher<>(List.<Either<String, Integer>>of()).new Subscription(null));
+        splitter.onError(error);
+
+        assertThat(lefts.error).isSameAs(error);
+        assertThat(rights.error).isSameAs(error);
+    }
+
+    @Test
+    public void shouldSubscribeBothSidesBeforeAnyOtherSignal() {
+        final List<String> signals = new ArrayList<>();
+        publisherOf(List.<Either<String, Integer>>of())
+                .subscribe(Flows.split(new SignalSubscriber<>("L", signals), new SignalSubscriber<>("R", signals)));
+
+        assertThat(signals).containsExactly("L.onSubscribe", "R.onSubscribe", "L.onComplete", "R.onComplete");
+    }
+
+    // -- collectValidation
+
+    @Test
+    public void shouldCollectValidValues() {
+        final Flows.ValidationCollector<String, Integer> collector = Flows.collectValidation(2);
+        publisherOf(List.<Validation<String, Integer>>of(Validation.valid(1), Validation.valid(2), Validation.valid(3)))
+                .subscribe(collector);
+
+        assertThat(collector.result().join()).isEqualTo(Validation.valid(List.of(1, 2, 3)));
+    }
+
+    @Test
+    public void shouldAccumulateErrors() {
+        final Flows.ValidationCollector<String, Integer> collector = Flows.collectValidation();
+        publisherOf(List.<Validation<String, Integer>>of(Validation.invalid("e1"), Validation.valid(2), Validation.invalid("e2")))
+                .subscribe(collector);
+
+        assertThat(collector.result().join()).isEqualTo(Validation.invalid(List.of("e1", "e2")));
+    }
+
+    @Test
+    public void shouldCompleteResultExceptionallyOnUpstreamError() {
+        final Flows.ValidationCollector<String, Integer> collector = Flows.collectValidation();
+        collector.onSubscribe(new IterablePublisher<>(List.<Validation<String, Integer>>of()).new Subscription(null));
+        collector.onError(new IOException());
+
+        assertThat(collector.result()).isCompletedExceptionally();
+    }
+
+    // -- helpers
+
+    private static <T> IterablePublisher<T> publisherOf(List<T> items) {
+        return new IterablePublisher<>(items);
+    }
+
+    static final class IterablePublisher<T> implements Flow.Publisher<T> {
+
+        private final Iterator<T> iterator;
+        int emitted;
+        boolean cancelled;
+
+        IterablePublisher(Iterable<T> items) {
+            this.iterator = items.iterator();
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super T> subscriber) {
+            final Subscription subscription = new Subscription(subscriber);
+            subscriber.onSubscribe(subscription);
+            subscription.completeIfExhausted();
+        }
+
+        final class Subscription implements Flow.Subscription {
+
+            private final Flow.Subscriber<? super T> subscriber;
+            private long requested;
+            private boolean emitting;
+            private boolean completed;
+
+            Subscription(Flow.Subscriber<? super T> subscriber) {
+                this.subscriber = subscriber;
+            }
+
+            @Override
+            public void request(long n) {
+                requested = requested + n < 0 ? Long.MAX_VALUE : requested + n;
+                if (emitting) return;
+                emitting = true;
+                while (requested > 0 && !cancelled && iterator.hasNext()) {
+                    requested--;
+                    emitted++;
+                    subscriber.onNext(iterator.next());
+                }
+                emitting = false;
+                completeIfExhausted();
+            }
+
+            void completeIfExhausted() {
+                if (!iterator.hasNext() && !cancelled && !completed && subscriber != null) {
+                    completed = true;
+                    subscriber.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+            }
+        }
+    }
+
+    static final class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+
+        final List<T> items = new ArrayList<>();
+        private final long initialRequest;
+        Flow.Subscription subscription;
+        boolean subscribed;
+        boolean completed;
+        Throwable error;
+
+        RecordingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        void request(long n) {
+            subscription.request(n);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscribed = true;
+            if (initialRequest > 0) subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    // Records every signal in a list shared with other subscribers, requests everything on subscribe
+    static final class SignalSubscriber<T> implements Flow.Subscriber<T> {
+
+        private final String name;
+        private final List<String> signals;
+
+        SignalSubscriber(String name, List<String> signals) {
+            this.name = name;
+            this.signals = signals;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            signals.add(name + ".onSubscribe");
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(T item) {
+            signals.add(name + ".onNext");
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            signals.add(name + ".onError");
+        }
+
+        @Override
+        public void onComplete() {
+            signals.add(name + ".onComplete");
+        }
+    }
+}
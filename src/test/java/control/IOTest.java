@@ -0,0 +1,265 @@
+package control;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class IOTest {
+
+    // -- laziness
+
+    @Test
+    public void shouldNotRunUntilEvaluated() {
+        final AtomicInteger count = new AtomicInteger();
+        final IO<Integer> io = IO.of(count::incrementAndGet).map(i -> i * 10);
+        assertThat(count.get()).isZero();
+
+        assertThat(io.evaluate()).isEqualTo(Try.success(10));
+        assertThat(count.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRerunDescription() {
+        final AtomicInteger count = new AtomicInteger();
+        final IO<Integer> io = IO.of(count::incrementAndGet);
+
+        assertThat(io.evaluate()).isEqualTo(Try.success(1));
+        assertThat(io.evaluate()).isEqualTo(Try.success(2));
+    }
+
+    @Test
+    public void shouldRunRunnable() {
+        final AtomicInteger count = new AtomicInteger();
+        final Try<Void> actual = IO.run(count::incrementAndGet).evaluate();
+        assertThat(actual.isSuccess()).isTrue();
+        assertThat(count.get()).isEqualTo(1);
+    }
+
+    // -- map / flatMap
+
+    @Test
+    public void shouldMapAndFlatMap() {
+        final IO<String> io = IO.success(1).map(i -> i + 1).flatMap(i -> IO.of(() -> "v" + i));
+        assertThat(io.evaluate()).isEqualTo(Try.success("v2"));
+    }
+
+    @Test
+    public void shouldCaptureFailureOfMapper() {
+        final IOException error = new IOException();
+        final Try<Integer> actual = IO.success(1).<Integer>mapTry(i -> {
+            throw error;
+        }).evaluate();
+        assertThat(actual.getCause()).isSameAs(error);
+    }
+
+    @Test
+    public void shouldSkipMappersAfterFailure() {
+        final AtomicInteger count = new AtomicInteger();
+        final Try<Integer> actual = IO.<Integer>failure(new IOException())
+                .map(count::addAndGet)
+                .flatMap(i -> IO.of(count::incrementAndGet))
+                .evaluate();
+        assertThat(actual.getCause()).isInstanceOf(IOException.class);
+        assertThat(count.get()).isZero();
+    }
+
+    @Test
+    public void shouldRethrowFatalErrors() {
+        assertThatThrownBy(() -> IO.of(() -> {
+            throw new OutOfMemoryError();
+        }).recover(t -> 1).evaluate()).isInstanceOf(OutOfMemoryError.class);
+    }
+
+    // -- recover
+
+    @Test
+    public void shouldRecoverFromFailure() {
+        final Try<Integer> actual = IO.<Integer>failure(new IOException()).map(i -> i + 1).recover(t -> 42).evaluate();
+        assertThat(actual).isEqualTo(Try.success(42));
+    }
+
+    @Test
+    public void shouldRecoverWithOtherIO() {
+        final Try<Integer> actual = IO.<Integer>failure(new IOException()).recoverWith(t -> IO.success(42)).map(i -> i + 1).evaluate();
+        assertThat(actual).isEqualTo(Try.success(43));
+    }
+
+    @Test
+    public void shouldNotRecoverSuccess() {
+        assertThat(IO.success(1).recover(t -> 42).evaluate()).isEqualTo(Try.success(1));
+    }
+
+    @Test
+    public void shouldAttempt() {
+        final IOException error = new IOException();
+        assertThat(IO.success(1).attempt().evaluate()).isEqualTo(Try.success(Try.success(1)));
+        assertThat(IO.failure(error).attempt().evaluate()).isEqualTo(Try.success(Try.failure(error)));
+    }
+
+    @Test
+    public void shouldRetry() {
+        final AtomicInteger attempts = new AtomicInteger();
+        final IO<Integer> flaky = IO.of(() -> {
+            if (attempts.incrementAndGet() < 3) throw new IOException();
+            return attempts.get();
+        });
+        assertThat(flaky.retry(2).evaluate()).isEqualTo(Try.success(3));
+
+        attempts.set(0);
+        assertThat(flaky.retry(1).evaluate().getCause()).isInstanceOf(IOException.class);
+    }
+
+    // -- stack safety
+
+    @Test
+    public void shouldBeStackSafeForLeftNestedFlatMaps() {
+        IO<Integer> io = IO.success(0);
+        for (int i = 0; i < 1_000_000; i++) {
+            io = io.flatMap(n -> IO.success(n + 1));
+        }
+        assertThat(io.evaluate()).isEqualTo(Try.success(1_000_000));
+    }
+
+    @Test
+    public void shouldBeStackSafeForRecursiveFlatMaps() {
+        assertThat(countDown(1_000_000).evaluate()).isEqualTo(Try.success(0));
+    }
+
+    private static IO<Integer> countDown(int n) {
+        return n == 0 ? IO.success(0) : IO.success(n - 1).flatMap(IOTest::countDown);
+    }
+
+    @Test
+    public void shouldBeStackSafeForDeepMapChains() {
+        IO<Integer> io = IO.success(0);
+        for (int i = 0; i < 1_000_000; i++) {
+            io = io.map(n -> n + 1);
+        }
+        assertThat(io.evaluate()).isEqualTo(Try.success(1_000_000));
+    }
+
+    // -- bracket
+
+    @Test
+    public void shouldReleaseAfterUse() {
+        final List<String> events = new ArrayList<>();
+        final IO<String> io = IO.bracket(
+                IO.of(() -> "resource"),
+                resource -> IO.of(() -> {
+                    events.add("use " + resource);
+                    return resource.length();
+                }).map(String::valueOf),
+                resource -> events.add("release " + resource));
+
+        assertThat(events).isEmpty();
+        assertThat(io.evaluate()).isEqualTo(Try.success("8"));
+        assertThat(events).containsExactly("use resource", "release resource");
+    }
+
+    @Test
+    public void shouldReleaseWhenUseFails() {
+        final List<String> events = new ArrayList<>();
+        final IOException error = new IOException();
+        final Try<Object> actual = IO.bracket(
+                IO.success("resource"),
+                resource -> IO.failure(error),
+                resource -> events.add("release")).evaluate();
+
+        assertThat(actual.getCause()).isSameAs(error);
+        assertThat(events).containsExactly("release");
+    }
+
+    @Test
+    public void shouldNotReleaseWhenAcquireFails() {
+        final List<String> events = new ArrayList<>();
+        final Try<String> actual = IO.bracket(
+                IO.<String>failure(new IOException()),
+                resource -> IO.success(resource),
+                resource -> events.add("release")).evaluate();
+
+        assertThat(actual.isFailure()).isTrue();
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    public void shouldSuppressReleaseFailureWhenUseFails() {
+        final IOException useError = new IOException("use");
+        final IOException releaseError = new IOException("release");
+        final Try<Object> actual = IO.bracket(
+                IO.success("resource"),
+                resource -> IO.failure(useError),
+                resource -> {
+                    throw releaseError;
+                }).evaluate();
+
+        assertThat(actual.getCause()).isSameAs(useError);
+        assertThat(useError.getSuppressed()).containsExactly(releaseError);
+    }
+
+    @Test
+    public void shouldKeepCauseWhenFinalizerRethrowsIt() {
+        final IOException error = new IOException("use");
+        final Try<Object> actual = IO.failure(error).andFinally(() -> {
+            throw error;
+        }).evaluate();
+
+        assertThat(actual.getCause()).isSameAs(error);
+        assertThat(error.getSuppressed()).isEmpty();
+    }
+
+    @Test
+    public void shouldSuppressSameFinalizerFailureOnce() {
+        final IOException error = new IOException("use");
+        final IOException finalizerError = new IOException("finalizer");
+        final IO<Object> io = IO.failure(error).andFinally(() -> {
+            throw finalizerError;
+        });
+        io.evaluate();
+        io.evaluate();
+        io.evaluate();
+
+        assertThat(error.getSuppressed()).containsExactly(finalizerError);
+    }
+
+    @Test
+    public void shouldRethrowFatalFinalizerError() {
+        final IO<Object> io = IO.failure(new IOException()).andFinally(() -> {
+            throw new OutOfMemoryError();
+        });
+        assertThatThrownBy(io::evaluate).isInstanceOf(OutOfMemoryError.class);
+    }
+
+    @Test
+    public void shouldFailWhenReleaseFailsAfterSuccessfulUse() {
+        final IOException releaseError = new IOException("release");
+        final Try<String> actual = IO.bracket(
+                IO.success("resource"),
+                IO::success,
+                resource -> {
+                    throw releaseError;
+                }).evaluate();
+
+        assertThat(actual.getCause()).isSameAs(releaseError);
+    }
+
+    // -- evaluateAsync
+
+    @Test
+    public void shouldEvaluateOnExecutor() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Try<String> actual = IO.of(() -> Thread.currentThread().getName()).evaluateAsync(executor).join();
+            assertThat(actual.get()).isNotEqualTo(Thread.currentThread().getName());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
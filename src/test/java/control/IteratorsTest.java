@@ -0,0 +1,81 @@
+package control;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class IteratorsTest {
+
+    private static <T> List<T> toList(Iterator<T> iterator) {
+        final List<T> list = new ArrayList<>();
+        iterator.forEachRemaining(list::add);
+        return list;
+    }
+
+    // -- flatten
+
+    @Test
+    public void shouldFlattenPresentValues() {
+        final List<Control<Integer>> controls = List.of(
+                Option.some(1), Option.none(), Try.success(2), Try.failure(new IOException()),
+                Either.right(3), Either.left("error"), Validation.valid(4), Validation.invalid("error"));
+        assertThat(toList(Iterators.flatten(controls))).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    public void shouldFlattenEmptyControls() {
+        final Iterator<Integer> iterator = Iterators.flatten(List.of(Option.<Integer>none(), Option.<Integer>none()));
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    public void shouldFlattenLazily() {
+        final List<Integer> evaluated = new ArrayList<>();
+        final Iterable<Option<Integer>> source = () -> Stream.of(1, 2, 3).peek(evaluated::add).map(Option::some).iterator();
+        final Iterator<Integer> iterator = Iterators.flatten(source);
+
+        assertThat(iterator.next()).isEqualTo(1);
+        assertThat(evaluated).containsExactly(1);
+    }
+
+    // -- successes
+
+    @Test
+    public void shouldIterateOverSuccesses() {
+        final Iterator<Try<String>> tries = List.of(Try.success("a"), Try.<String>failure(new IOException()), Try.success("b")).iterator();
+        assertThat(toList(Iterators.successes(tries))).containsExactly("a", "b");
+    }
+
+    // -- stream / spliterator
+
+    @Test
+    public void shouldStreamPresentAndEmptyControls() {
+        final List<Option<Integer>> rows = List.of(Option.some(1), Option.none(), Option.some(3));
+        assertThat(rows.stream().flatMap(Option::stream).collect(Collectors.toList())).containsExactly(1, 3);
+        assertThat(Try.failure(new IOException()).stream().count()).isZero();
+        assertThat(Either.right(1).stream().collect(Collectors.toList())).containsExactly(1);
+        assertThat(Validation.invalid("error").stream().count()).isZero();
+    }
+
+    @Test
+    public void shouldSplitOnlyOnce() {
+        final Spliterator<Integer> spliterator = Option.some(1).spliterator();
+        assertThat(spliterator.trySplit()).isNull();
+        assertThat(spliterator.tryAdvance(i -> assertThat(i).isEqualTo(1))).isTrue();
+        assertThat(spliterator.tryAdvance(i -> {
+            throw new AssertionError();
+        })).isFalse();
+        assertThat(spliterator.estimateSize()).isZero();
+    }
+}
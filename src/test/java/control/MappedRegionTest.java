@@ -0,0 +1,75 @@
+package control;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MappedRegionTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void shouldReadMappedFileWithResources() throws IOException {
+        final Path file = Files.write(directory.resolve("data"), new byte[]{1, 2, 3, 4});
+
+        final Try<Integer> actual = Try.withResources(() -> MappedRegion.readOnly(file).get())
+                .of(region -> region.buffer().get(0) + region.buffer().get(3));
+
+        assertThat(actual).isEqualTo(Try.success(5));
+    }
+
+    @Test
+    public void shouldMapPartOfFile() throws IOException {
+        final Path file = Files.write(directory.resolve("data"), new byte[]{1, 2, 3, 4});
+
+        try (MappedRegion region = MappedRegion.readOnly(file, 2, 2).get()) {
+            assertThat(region.buffer().capacity()).isEqualTo(2);
+            assertThat(region.buffer().get(0)).isEqualTo((byte) 3);
+            assertThat(region.isReadOnly()).isTrue();
+        }
+    }
+
+    @Test
+    public void shouldWriteThroughReadWriteRegion() throws IOException {
+        final Path file = directory.resolve("out");
+
+        final Try<Void> written = Try.withResources(() -> MappedRegion.readWrite(file, 0, 3).get())
+                .of(region -> {
+                    region.buffer().put(new byte[]{7, 8, 9});
+                    return null;
+                });
+
+        assertThat(written.isSuccess()).isTrue();
+        assertThat(Files.readAllBytes(file)).containsExactly(7, 8, 9);
+    }
+
+    @Test
+    public void shouldRejectAccessOnceClosed() throws IOException {
+        final Path file = Files.write(directory.resolve("data"), new byte[]{1});
+        final MappedRegion region = MappedRegion.readOnly(file).get();
+        region.close();
+        region.close();
+
+        assertThat(region.isClosed()).isTrue();
+        assertThatThrownBy(region::buffer).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void shouldFailToMapMissingFile() {
+        assertThat(MappedRegion.readOnly(directory.resolve("missing")).getCause()).isInstanceOf(NoSuchFileException.class);
+    }
+
+    @Test
+    public void shouldFailToMapRegionLargerThanBuffer() throws IOException {
+        final Path file = Files.write(directory.resolve("data"), new byte[]{1});
+        assertThat(MappedRegion.readOnly(file, 0, Integer.MAX_VALUE + 1L).getCause()).isInstanceOf(IllegalArgumentException.class);
+    }
+}
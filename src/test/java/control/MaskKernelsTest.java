@@ -0,0 +1,88 @@
+package control;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MaskKernelsTest {
+
+    private static final int[] SIZES = {0, 1, 7, 63, 64, 65, 130, 1_000};
+
+    private final Random random = new Random(42);
+
+    @Test
+    public void shouldUseVectorKernelsWhenModuleIsPresent() {
+        // The test task adds jdk.incubator.vector to the boot layer
+        assertThat(MaskKernels.BEST).isInstanceOf(VectorMaskKernels.class);
+    }
+
+    @Test
+    public void shouldMatchScalarForIntChecks() {
+        for (int size : SIZES) {
+            final int[] column = random.ints(size, -100, 100).toArray();
+            assertThat(mask(size, (k, w) -> k.intRange(column, -10, 50, w, size)))
+                    .containsExactly(scalar(size, (k, w) -> k.intRange(column, -10, 50, w, size)));
+            assertThat(mask(size, (k, w) -> k.intNotEqual(column, 0, w, size)))
+                    .containsExactly(scalar(size, (k, w) -> k.intNotEqual(column, 0, w, size)));
+        }
+    }
+
+    @Test
+    public void shouldMatchScalarForLongChecks() {
+        for (int size : SIZES) {
+            final long[] column = random.longs(size, -100, 100).toArray();
+            assertThat(mask(size, (k, w) -> k.longRange(column, 0, Long.MAX_VALUE, w, size)))
+                    .containsExactly(scalar(size, (k, w) -> k.longRange(column, 0, Long.MAX_VALUE, w, size)));
+            assertThat(mask(size, (k, w) -> k.longNotEqual(column, -1, w, size)))
+                    .containsExactly(scalar(size, (k, w) -> k.longNotEqual(column, -1, w, size)));
+        }
+    }
+
+    @Test
+    public void shouldMatchScalarForDoubleChecks() {
+        final double[] specials = {Double.NaN, -0.0, 0.0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, -1};
+        for (int size : SIZES) {
+            final double[] column = random.doubles(size, -2, 2).toArray();
+            for (int i = 0; i < size; i += 3) column[i] = specials[random.nextInt(specials.length)];
+
+            assertThat(mask(size, (k, w) -> k.doubleRange(column, -1, 1, w, size)))
+                    .containsExactly(scalar(size, (k, w) -> k.doubleRange(column, -1, 1, w, size)));
+            assertThat(mask(size, (k, w) -> k.doubleNotEqual(column, Double.NaN, w, size)))
+                    .containsExactly(scalar(size, (k, w) -> k.doubleNotEqual(column, Double.NaN, w, size)));
+            assertThat(mask(size, (k, w) -> k.doubleNotEqual(column, -1, w, size)))
+                    .containsExactly(scalar(size, (k, w) -> k.doubleNotEqual(column, -1, w, size)));
+        }
+    }
+
+    @Test
+    public void shouldSetBitOfValidRows() {
+        final long[] words = new long[2];
+        MaskKernels.BEST.intRange(new int[]{5, -1, 5, 6, 5}, 5, 5, words, 5);
+        assertThat(words).containsExactly(0b10101L, 0L);
+    }
+
+    @Test
+    public void shouldOverwritePreviousMask() {
+        final long[] words = {-1L, -1L};
+        MaskKernels.BEST.longNotEqual(new long[70], 0, words, 70);
+        assertThat(words).containsExactly(0L, 0L);
+    }
+
+    private interface Kernel {
+        void run(MaskKernels kernels, long[] words);
+    }
+
+    private static long[] mask(int size, Kernel kernel) {
+        final long[] words = new long[(size + 63) >>> 6];
+        kernel.run(MaskKernels.BEST, words);
+        return words;
+    }
+
+    private static long[] scalar(int size, Kernel kernel) {
+        final long[] words = new long[(size + 63) >>> 6];
+        kernel.run(MaskKernels.SCALAR, words);
+        return words;
+    }
+}
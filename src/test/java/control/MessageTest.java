@@ -0,0 +1,102 @@
+package control;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MessageTest {
+
+    @Test
+    public void shouldRenderTemplateOnFirstAccess() {
+        final Message message = Message.format("field %s must be < %d", "age", 150);
+        assertThat(message.isRendered()).isFalse();
+        assertThat(message.toString()).isEqualTo("field age must be < 150");
+        assertThat(message.isRendered()).isTrue();
+    }
+
+    @Test
+    public void shouldCallSupplierOnce() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Message message = Message.of(() -> "rendered " + calls.incrementAndGet());
+        assertThat(calls.get()).isZero();
+        assertThat(message.toString()).isEqualTo("rendered 1");
+        assertThat(message.toString()).isEqualTo("rendered 1");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldCompareTemplateAndArgumentsWithoutRendering() {
+        final Message message = Message.format("too long: %d", 12);
+        assertThat(message).isEqualTo(Message.format("too long: %d", 12)).hasSameHashCodeAs(Message.format("too long: %d", 12));
+        assertThat(message).isNotEqualTo(Message.format("too long: %d", 13));
+        assertThat(message.isRendered()).isFalse();
+
+        final Message supplied = Message.of(() -> "too long: 12");
+        assertThat(supplied).isEqualTo(supplied).isNotEqualTo(Message.of(() -> "too long: 12")).isNotEqualTo(message);
+    }
+
+    @Test
+    public void shouldOnlyRenderErrorsThatAreRead() {
+        final AtomicInteger rendered = new AtomicInteger();
+        final List<Validation<List<Message>, Integer>> lines = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final int line = i;
+            lines.add(Validation.invalid(List.of(Message.of(() -> {
+                rendered.incrementAndGet();
+                return "bad line " + line;
+            }))));
+        }
+        final Validation<List<Message>, List<Integer>> result = Validation.sequence(lines, Accumulation.limit(10));
+        assertThat(rendered.get()).isZero();
+
+        assertThat(result.getError().get(0).toString()).isEqualTo("bad line 0");
+        assertThat(rendered.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldWorkAsValidationAndEitherError() {
+        final Validation<Message, Integer> invalid = Validation.invalid(Message.format("negative %d", -1));
+        assertThat(invalid.toString()).contains("negative -1");
+        assertThat(invalid.mapError(Message::toString).getError()).isEqualTo("negative -1");
+        assertThat(invalid.fold(Message::toString, String::valueOf)).isEqualTo("negative -1");
+
+        final Either<Message, Integer> left = Either.left(Message.format("missing %s", "name"));
+        assertThat(left.getLeft().toString()).isEqualTo("missing name");
+        assertThat(left).isEqualTo(Either.left(Message.format("missing %s", "name")));
+    }
+
+    @Test
+    public void shouldSerializeFormattedMessageWithItsArguments() {
+        final Validation<Message, Integer> invalid = Validation.invalid(Message.format("negative %d", -1));
+        final Validation<Message, Integer> copy = Serializables.deserialize(Serializables.serialize(invalid));
+        assertThat(copy).isEqualTo(invalid);
+        assertThat(copy.getError().isRendered()).isTrue();
+        assertThat(copy.getError()).hasToString("negative -1");
+    }
+
+    @Test
+    public void shouldSerializeOtherMessagesAsText() {
+        final Message supplied = Message.of(() -> "rendered");
+        final Message copy = Serializables.deserialize(Serializables.serialize(supplied));
+        assertThat(copy).hasToString("rendered").isEqualTo(copy);
+
+        final Message unserializableArgument = Message.format("value %s", new Object() {
+            @Override
+            public String toString() {
+                return "anonymous";
+            }
+        });
+        final Either<Message, Integer> left = Serializables.deserialize(Serializables.serialize(Either.left(unserializableArgument)));
+        assertThat(left.getLeft()).hasToString("value anonymous");
+    }
+
+    @Test
+    public void shouldRejectNullSupplierResult() {
+        assertThatThrownBy(() -> Message.of(() -> null).toString()).isInstanceOf(NullPointerException.class);
+    }
+}
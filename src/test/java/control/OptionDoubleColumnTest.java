@@ -0,0 +1,26 @@
+package control;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OptionDoubleColumnTest {
+
+    @Test
+    public void shouldStoreOptionalDoubles() {
+        final OptionDoubleColumn column = OptionDoubleColumn.create().append(1.5).appendEmpty().append(Option.some(Double.NaN));
+        assertThat(column.get(0)).isEqualTo(Option.some(1.5));
+        assertThat(column.get(1)).isEqualTo(Option.none());
+        assertThat(column.isPresent(2)).isTrue();
+        assertThat(column.getOrElse(1, -1.0)).isEqualTo(-1.0);
+    }
+
+    @Test
+    public void shouldMapFilterAndSumPresentValues() {
+        final OptionDoubleColumn column = OptionDoubleColumn.of(0.5, 1.5, 2.5);
+        column.clear(0);
+        final OptionDoubleColumn result = column.map(value -> value * 2).filter(value -> value > 4);
+        assertThat(result.toArray(Double.NaN)).containsExactly(Double.NaN, Double.NaN, 5.0);
+        assertThat(column.sum()).isEqualTo(4.0);
+    }
+}
@@ -0,0 +1,53 @@
+package control;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class OptionFnTest {
+
+    private final OptionFn<String, Integer> length = OptionFn.<String>identity()
+            .map(String::trim)
+            .filter(s -> !s.isEmpty())
+            .map(String::length);
+
+    @Test
+    public void shouldApplyAllStepsToValue() {
+        assertThat(length.apply(" abc ")).isEqualTo(Option.some(3));
+    }
+
+    @Test
+    public void shouldReturnNoneWhenFilterDoesNotHold() {
+        assertThat(length.apply("  ")).isSameAs(Option.none());
+        assertThat(OptionFn.<Integer>identity().filterNot(i -> i > 0).apply(1)).isEqualTo(Option.none());
+    }
+
+    @Test
+    public void shouldTreatNullAsNone() {
+        assertThat(length.apply(null)).isEqualTo(Option.none());
+        assertThat(length.applyOption(Option.none())).isEqualTo(Option.none());
+        assertThat(length.applyOption(Option.some("ab"))).isEqualTo(Option.some(2));
+    }
+
+    @Test
+    public void shouldFlatMap() {
+        final OptionFn<String, Integer> digit = OptionFn.<String>identity()
+                .flatMap(s -> s.length() == 1 && Character.isDigit(s.charAt(0)) ? Option.some(s.charAt(0) - '0') : Option.none());
+        assertThat(digit.apply("7")).isEqualTo(Option.some(7));
+        assertThat(digit.apply("x")).isEqualTo(Option.none());
+    }
+
+    @Test
+    public void shouldFallBackWithOrElse() {
+        final OptionFn<String, Integer> withDefault = length.orElse(() -> Option.some(-1)).map(i -> i * 10);
+        assertThat(withDefault.apply(" ")).isEqualTo(Option.some(-10));
+        assertThat(withDefault.apply("ab")).isEqualTo(Option.some(20));
+    }
+
+    @Test
+    public void shouldFailWhenMapperReturnsNull() {
+        final OptionFn<String, Object> nulls = OptionFn.of(s -> null);
+        assertThatThrownBy(() -> nulls.apply("a")).isInstanceOf(NullPointerException.class).hasMessage("value is null");
+    }
+}
@@ -0,0 +1,29 @@
+package control;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OptionIntColumnTest {
+
+    @Test
+    public void shouldStoreOptionalInts() {
+        final OptionIntColumn column = OptionIntColumn.create().append(1).appendEmpty().append(Option.some(3));
+        assertThat(column.get(0)).isEqualTo(Option.some(1));
+        assertThat(column.get(1)).isEqualTo(Option.none());
+        assertThat(column.presentCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldSumIntoLongWithoutOverflow() {
+        final OptionIntColumn column = OptionIntColumn.of(Integer.MAX_VALUE, Integer.MAX_VALUE);
+        assertThat(column.sum()).isEqualTo(2L * Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void shouldMapAndFilterPresentValues() {
+        final OptionIntColumn column = OptionIntColumn.of(1, 2, 3).filter(value -> value != 2).map(value -> -value);
+        assertThat(column.toArray(0)).containsExactly(-1, 0, -3);
+        assertThat(column.isPresent(1)).isFalse();
+    }
+}
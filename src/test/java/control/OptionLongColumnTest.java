@@ -0,0 +1,70 @@
+package control;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class OptionLongColumnTest {
+
+    @Test
+    public void shouldAppendPresentAndEmptyEntries() {
+        final OptionLongColumn column = OptionLongColumn.withCapacity(0);
+        for (int i = 0; i < 200; i++) {
+            if (i % 3 == 0) column.appendEmpty();
+            else column.append(i);
+        }
+        assertThat(column.size()).isEqualTo(200);
+        assertThat(column.presentCount()).isEqualTo(133);
+        assertThat(column.get(0)).isEqualTo(Option.none());
+        assertThat(column.get(130)).isEqualTo(Option.some(130L));
+        assertThat(column.getOrElse(129, -1)).isEqualTo(-1);
+        assertThat(column.isPresent(199)).isTrue();
+    }
+
+    @Test
+    public void shouldAppendOptions() {
+        final OptionLongColumn column = OptionLongColumn.create().append(Option.some(5L)).append(Option.none());
+        assertThat(column).hasToString("OptionLongColumn[5, None]");
+    }
+
+    @Test
+    public void shouldSetAndClearInPlace() {
+        final OptionLongColumn column = OptionLongColumn.ofSize(3);
+        assertThat(column.presentCount()).isZero();
+        column.set(1, 42);
+        assertThat(column.get(1)).isEqualTo(Option.some(42L));
+        column.clear(1);
+        assertThat(column.get(1)).isEqualTo(Option.none());
+        assertThat(column.sum()).isZero();
+    }
+
+    @Test
+    public void shouldMapFilterAndSumPresentValuesOnly() {
+        final OptionLongColumn column = OptionLongColumn.of(1, 2, 3, 4);
+        column.clear(0);
+
+        final OptionLongColumn doubled = column.map(value -> value * 2);
+        assertThat(doubled.toArray(-1)).containsExactly(-1, 4, 6, 8);
+        assertThat(doubled.sum()).isEqualTo(18);
+
+        final OptionLongColumn even = doubled.filter(value -> value % 4 == 0);
+        assertThat(even).hasToString("OptionLongColumn[None, 4, None, 8]");
+        assertThat(even.sum()).isEqualTo(12);
+        assertThat(even.presentCount()).isEqualTo(2);
+        assertThat(column.get(1)).isEqualTo(Option.some(2L));
+    }
+
+    @Test
+    public void shouldCountOnlyEntriesWithinSize() {
+        assertThat(OptionLongColumn.of(new long[70]).presentCount()).isEqualTo(70);
+        assertThat(OptionLongColumn.of().size()).isZero();
+    }
+
+    @Test
+    public void shouldRejectIndexOutOfBounds() {
+        final OptionLongColumn column = OptionLongColumn.of(1);
+        assertThatThrownBy(() -> column.get(1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> column.set(-1, 0)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -0,0 +1,80 @@
+package control;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class OptionMapTest {
+
+    @Test
+    public void shouldReturnStoredSomeOnHit() {
+        final OptionMap<String, Integer> map = OptionMap.create();
+        assertThat(map.put("a", 1)).isEqualTo(Option.none());
+        assertThat(map.get("a")).isEqualTo(Option.some(1));
+        assertThat(map.get("a")).isSameAs(map.get("a"));
+        assertThat(map.containsKey("a")).isTrue();
+    }
+
+    @Test
+    public void shouldReturnSharedNoneOnMiss() {
+        final OptionMap<String, Integer> map = OptionMap.create();
+        assertThat(map.get("missing")).isSameAs(Option.none());
+        assertThat(map.containsKey("missing")).isFalse();
+    }
+
+    @Test
+    public void shouldReplaceAndRemoveValues() {
+        final OptionMap<String, Integer> map = OptionMap.withExpectedSize(2);
+        map.put("a", 1);
+        assertThat(map.put("a", 2)).isEqualTo(Option.some(1));
+        assertThat(map.get("a")).isEqualTo(Option.some(2));
+        assertThat(map.size()).isEqualTo(1);
+        assertThat(map.remove("a")).isEqualTo(Option.some(2));
+        assertThat(map.remove("a")).isEqualTo(Option.none());
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void shouldBehaveLikeHashMap() {
+        final OptionMap<Integer, Integer> map = OptionMap.create();
+        final Map<Integer, Integer> expected = new HashMap<>();
+        final Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            // A small key range with frequent removals exercises the backward shift of probe sequences
+            final Integer key = random.nextInt(2_000) * 64;
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(Option.ofNullable(expected.remove(key)));
+            } else {
+                assertThat(map.put(key, i)).isEqualTo(Option.ofNullable(expected.put(key, i)));
+            }
+        }
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (int key = 0; key < 2_000 * 64; key += 64) {
+            assertThat(map.get(key)).isEqualTo(Option.ofNullable(expected.get(key)));
+        }
+        final Map<Integer, Integer> copy = new HashMap<>();
+        map.forEach(copy::put);
+        assertThat(copy).isEqualTo(expected);
+    }
+
+    @Test
+    public void shouldCopyMap() {
+        final OptionMap<String, Integer> map = OptionMap.of(Map.of("a", 1, "b", 2));
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get("b")).isEqualTo(Option.some(2));
+        assertThat(OptionMap.of(Map.of("a", 1))).hasToString("OptionMap{a=1}");
+    }
+
+    @Test
+    public void shouldRejectNullKeysAndValues() {
+        final OptionMap<String, Integer> map = OptionMap.create();
+        assertThatThrownBy(() -> map.put(null, 1)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> map.put("a", null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> map.get(null)).isInstanceOf(NullPointerException.class);
+    }
+}
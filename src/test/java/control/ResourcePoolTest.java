@@ -0,0 +1,154 @@
+package control;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResourcePoolTest {
+
+    static final class Connection implements AutoCloseable {
+
+        final int id;
+        boolean closed;
+        boolean broken;
+
+        Connection(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private final AtomicInteger created = new AtomicInteger();
+
+    private Connection create() {
+        return new Connection(created.incrementAndGet());
+    }
+
+    @Test
+    public void shouldReuseResourceGivenBackByWithResources() {
+        final ResourcePool<Connection> pool = ResourcePool.of(this::create, 2);
+
+        final Try<Integer> first = Try.withResources(() -> pool.borrow().get()).of(pooled -> pooled.get().id);
+        final Try<Integer> second = Try.withResources(() -> pool.borrow().get()).of(pooled -> pooled.get().id);
+
+        assertThat(first).isEqualTo(Try.success(1));
+        assertThat(second).isEqualTo(Try.success(1));
+        assertThat(created.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotCloseResourceGivenBackToPool() throws Exception {
+        final ResourcePool<Connection> pool = ResourcePool.of(this::create, 1);
+        final ResourcePool.Pooled<Connection> pooled = pool.borrow().get();
+        final Connection connection = pooled.get();
+        pooled.close();
+        assertThat(connection.closed).isFalse();
+
+        pool.close();
+        assertThat(connection.closed).isTrue();
+    }
+
+    @Test
+    public void shouldFailWhenPoolIsExhausted() {
+        final ResourcePool<Connection> pool = ResourcePool.of(this::create, 1);
+        assertThat(pool.borrow().isSuccess()).isTrue();
+
+        final Try<ResourcePool.Pooled<Connection>> exhausted = pool.borrow(Duration.ofMillis(10));
+        assertThat(exhausted.getCause()).isInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    public void shouldDiscardBrokenIdleResourceOnBorrow() throws Exception {
+        final ResourcePool<Connection> pool = ResourcePool.of(this::create, 1, Duration.ofMinutes(1), connection -> !connection.broken);
+        final ResourcePool.Pooled<Connection> pooled = pool.borrow().get();
+        final Connection broken = pooled.get();
+        broken.broken = true;
+        pooled.close();
+
+        final Connection next = pool.borrow().get().get();
+        assertThat(next).isNotSameAs(broken);
+        assertThat(broken.closed).isTrue();
+    }
+
+    @Test
+    public void shouldFailWhenCreatedResourceIsBroken() {
+        final ResourcePool<Connection> pool = ResourcePool.of(this::create, 1, Duration.ofMinutes(1), connection -> false);
+
+        assertThat(pool.borrow().getCause()).isInstanceOf(IllegalStateException.class);
+        // The slot is given back on failure
+        assertThat(pool.borrow(Duration.ofMillis(10)).getCause()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void shouldFailWhenFactoryFails() {
+        final ResourcePool<Connection> pool = ResourcePool.of(() -> {
+            throw new IOException();
+        }, 1);
+
+        final Try<Integer> actual = Try.withResources(() -> pool.borrow().get()).of(pooled -> pooled.get().id);
+        assertThat(actual.getCause()).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void shouldCloseCreatedResourceWhenValidatorThrows() {
+        final Connection connection = new Connection(1);
+        final ResourcePool<Connection> pool = ResourcePool.of(() -> connection, 1, Duration.ofMinutes(1), ignored -> {
+            throw new IOException();
+        });
+
+        assertThat(pool.borrow().getCause()).isInstanceOf(IOException.class);
+        assertThat(connection.closed).isTrue();
+        assertThat(pool.borrow(Duration.ofMillis(10)).getCause()).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void shouldEvictIdleResources() throws Exception {
+        final ResourcePool<Connection> pool = ResourcePool.of(this::create, 1, Duration.ofNanos(1), connection -> true);
+        final ResourcePool.Pooled<Connection> pooled = pool.borrow().get();
+        final Connection evicted = pooled.get();
+        pooled.close();
+        Thread.sleep(1);
+
+        assertThat(pool.borrow().get().get()).isNotSameAs(evicted);
+        assertThat(evicted.closed).isTrue();
+    }
+
+    @Test
+    public void shouldCloseInvalidatedResource() throws Exception {
+        final ResourcePool<Connection> pool = ResourcePool.of(this::create, 1);
+        final ResourcePool.Pooled<Connection> pooled = pool.borrow().get();
+        final Connection connection = pooled.get();
+        pooled.invalidate();
+        pooled.close();
+
+        assertThat(connection.closed).isTrue();
+        assertThat(pool.borrow().get().get()).isNotSameAs(connection);
+    }
+
+    @Test
+    public void shouldGiveBackResourceOnlyOnce() throws Exception {
+        final ResourcePool<Connection> pool = ResourcePool.of(this::create, 1);
+        final ResourcePool.Pooled<Connection> pooled = pool.borrow().get();
+        pooled.close();
+        pooled.close();
+
+        assertThat(pool.borrow().isSuccess()).isTrue();
+        assertThat(pool.borrow(Duration.ofMillis(10)).getCause()).isInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    public void shouldFailToBorrowFromClosedPool() {
+        final ResourcePool<Connection> pool = ResourcePool.of(this::create, 1);
+        pool.close();
+        assertThat(pool.borrow().getCause()).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,156 @@
+package control;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StreamsTest {
+
+    private static int parse(String value) throws IOException {
+        if (!value.matches("-?\\d+")) throw new IOException(value);
+        return Integer.parseInt(value);
+    }
+
+    // -- mapTry
+
+    @Test
+    public void shouldMapAllValuesWhenNothingFails() {
+        final List<Try<Integer>> actual = Streams.mapTry(Stream.of("1", "2"), StreamsTest::parse).collect(Collectors.toList());
+        assertThat(actual).containsExactly(Try.success(1), Try.success(2));
+    }
+
+    @Test
+    public void shouldStopAfterFirstFailure() {
+        final List<String> read = new ArrayList<>();
+        final List<Try<Integer>> actual = Streams.mapTry(Stream.of("1", "x", "3", "y").peek(read::add), StreamsTest::parse)
+                .collect(Collectors.toList());
+
+        assertThat(actual).hasSize(2);
+        assertThat(actual.get(0)).isEqualTo(Try.success(1));
+        assertThat(actual.get(1).getCause()).isInstanceOf(IOException.class).hasMessage("x");
+        assertThat(read).containsExactly("1", "x");
+    }
+
+    // -- collectTry
+
+    @Test
+    public void shouldCollectSuccesses() {
+        assertThat(Streams.collectTry(Stream.of(Try.success(1), Try.success(2)))).isEqualTo(Try.success(List.of(1, 2)));
+    }
+
+    @Test
+    public void shouldStopCollectingAtFirstFailure() {
+        final AtomicInteger read = new AtomicInteger();
+        final Try<List<Integer>> actual = Streams.collectTry(Streams.mapTry(IntStream.range(0, 1_000_000).boxed()
+                .peek(i -> read.incrementAndGet()), i -> {
+            if (i == 10) throw new IOException();
+            return i;
+        }));
+
+        assertThat(actual.getCause()).isInstanceOf(IOException.class);
+        assertThat(read.get()).isEqualTo(11);
+    }
+
+    // -- collectValid
+
+    @Test
+    public void shouldEmitValidsAndSinkErrors() {
+        final List<String> errors = new ArrayList<>();
+        final List<Integer> valids = Streams.collectValid(Stream.of(
+                Validation.<String, Integer>valid(1), Validation.<String, Integer>invalid("a"), Validation.<String, Integer>valid(2)), errors::add)
+                .collect(Collectors.toList());
+
+        assertThat(valids).containsExactly(1, 2);
+        assertThat(errors).containsExactly("a");
+    }
+
+    // -- mapTryConcurrent
+
+    @Test
+    public void shouldMapConcurrentlyInSourceOrder() {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Try<Integer>> actual = Streams.mapTryConcurrent(IntStream.range(0, 100).boxed(), 4, executor, i -> {
+                Thread.sleep((100 - i) % 7);
+                return i * 2;
+            }).collect(Collectors.toList());
+
+            assertThat(actual).hasSize(100);
+            for (int i = 0; i < 100; i++) assertThat(actual.get(i)).isEqualTo(Try.success(i * 2));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldBoundConcurrencyAndStopAfterFailure() {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final AtomicInteger read = new AtomicInteger();
+        try {
+            final List<Try<Integer>> actual = Streams.mapTryConcurrent(IntStream.range(0, 1_000).boxed().peek(i -> read.incrementAndGet()), 3, executor, i -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(1);
+                    if (i == 5) throw new IOException();
+                    return i;
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            }).collect(Collectors.toList());
+
+            assertThat(actual).hasSize(6);
+            assertThat(actual.get(5).getCause()).isInstanceOf(IOException.class);
+            assertThat(maxInFlight.get()).isLessThanOrEqualTo(3);
+            assertThat(read.get()).isLessThanOrEqualTo(8);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldInterruptRunningMappingsAfterFailure() throws InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        final CountDownLatch slowStarted = new CountDownLatch(1);
+        final CountDownLatch slowInterrupted = new CountDownLatch(1);
+        final AtomicBoolean slowCompleted = new AtomicBoolean();
+        try {
+            final List<Try<Integer>> actual = Streams.mapTryConcurrent(Stream.of("x", "slow"), 2, executor, value -> {
+                if (value.equals("x")) {
+                    slowStarted.await();
+                    throw new IOException(value);
+                }
+                slowStarted.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    slowInterrupted.countDown();
+                    throw e;
+                }
+                slowCompleted.set(true);
+                return 1;
+            }).collect(Collectors.toList());
+
+            assertThat(actual).hasSize(1);
+            assertThat(actual.get(0).getCause()).isInstanceOf(IOException.class);
+            assertThat(slowInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(slowCompleted.get()).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
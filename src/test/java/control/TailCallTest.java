@@ -0,0 +1,86 @@
+package control;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TailCallTest {
+
+    private static TailCall<Boolean> isEven(int n) {
+        return n == 0 ? TailCall.done(true) : TailCall.suspend(() -> isOdd(n - 1));
+    }
+
+    private static TailCall<Boolean> isOdd(int n) {
+        return n == 0 ? TailCall.done(false) : TailCall.suspend(() -> isEven(n - 1));
+    }
+
+    private static TailCall<Long> sum(int n) {
+        return n == 0 ? TailCall.done(0L) : TailCall.suspend(() -> sum(n - 1)).map(s -> s + n);
+    }
+
+    static final class Node {
+
+        final Node child;
+
+        Node(Node child) {
+            this.child = child;
+        }
+    }
+
+    private static TailCall<Integer> depth(Node node) {
+        return node == null ? TailCall.done(0) : TailCall.<Integer>suspend(() -> depth(node.child)).flatMap(d -> TailCall.done(d + 1));
+    }
+
+    @Test
+    public void shouldEvaluateMutualRecursionInConstantStack() {
+        assertThat(isEven(1_000_000).evaluate()).isTrue();
+        assertThat(isOdd(1_000_001).evaluate()).isTrue();
+    }
+
+    @Test
+    public void shouldEvaluateNonTailRecursionInConstantStack() {
+        assertThat(sum(1_000_000).evaluate()).isEqualTo(500_000_500_000L);
+    }
+
+    @Test
+    public void shouldWalkDeepGraph() {
+        Node node = null;
+        for (int i = 0; i < 100_000; i++) node = new Node(node);
+        assertThat(depth(node).evaluate()).isEqualTo(100_000);
+    }
+
+    @Test
+    public void shouldEvaluateTryToSuccess() {
+        assertThat(sum(100_000).evaluateTry()).isEqualTo(Try.success(5_000_050_000L));
+    }
+
+    @Test
+    public void shouldEvaluateTryToFailure() {
+        final TailCall<Integer> failing = TailCall.<Integer>suspend(() -> {
+            throw new IllegalStateException("boom");
+        });
+        assertThat(failing.evaluateTry().getCause()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void shouldBeLazyUntilEvaluated() {
+        final List<Integer> visited = new ArrayList<>();
+        final TailCall<Integer> call = TailCall.done(1).peek(visited::add).map(i -> i + 1);
+        assertThat(visited).isEmpty();
+        assertThat(call.get()).isEqualTo(2);
+        assertThat(visited).containsExactly(1);
+    }
+
+    @Test
+    public void shouldBehaveAsNonEmptyControl() {
+        final TailCall<Integer> call = TailCall.suspend(() -> TailCall.done(42));
+        assertThat(call.isEmpty()).isFalse();
+        assertThat(call.getOrElse(0)).isEqualTo(42);
+        assertThat(call.toOption()).isEqualTo(Option.some(42));
+        assertThat(call.stream().collect(Collectors.toList())).containsExactly(42);
+    }
+}
@@ -0,0 +1,93 @@
+package control;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TryBatchTest {
+
+    private static int parse(String value) throws IOException {
+        if (!value.matches("\\d+")) throw new IOException(value);
+        return Integer.parseInt(value);
+    }
+
+    @Test
+    public void shouldKeepValuesAndSparseFailures() {
+        final TryBatch<Integer> batch = TryBatch.map(new String[]{"1", "x", "3", "y"}, TryBatchTest::parse);
+
+        assertThat(batch.size()).isEqualTo(4);
+        assertThat(batch.failureCount()).isEqualTo(2);
+        assertThat(batch.successes()).containsExactly(1, 3);
+        assertThat(batch.failures().keySet()).containsExactly(1, 3);
+        assertThat(batch.failures().get(1)).hasMessage("x");
+        assertThat(batch.isSuccess(0)).isTrue();
+        assertThat(batch.isSuccess(1)).isFalse();
+    }
+
+    @Test
+    public void shouldBuildTriesOnDemand() {
+        final TryBatch<Integer> batch = TryBatch.map(List.of("1", "x"), TryBatchTest::parse);
+
+        assertThat(batch.get(0)).isEqualTo(Try.success(1));
+        assertThat(batch.get(1).getCause()).isInstanceOf(IOException.class);
+        final List<Try<Integer>> tries = batch.toTryList();
+        assertThat(tries).hasSize(2);
+        assertThat(tries.get(0)).isEqualTo(Try.success(1));
+        assertThat(tries.get(1).isFailure()).isTrue();
+    }
+
+    @Test
+    public void shouldConvertToTry() {
+        assertThat(TryBatch.map(List.of("1", "2"), TryBatchTest::parse).toTry()).isEqualTo(Try.success(List.of(1, 2)));
+        assertThat(TryBatch.map(List.of("1", "a", "b"), TryBatchTest::parse).toTry().getCause()).hasMessage("a");
+    }
+
+    @Test
+    public void shouldKeepNullResults() {
+        final TryBatch<Object> batch = TryBatch.map(new Integer[]{1, 2}, i -> null);
+        assertThat(batch.isAllSuccess()).isTrue();
+        assertThat(batch.get(0)).isEqualTo(new Success<>(null));
+        assertThat(batch.successes()).containsExactly(null, null);
+    }
+
+    @Test
+    public void shouldRejectIndexOutOfBounds() {
+        final TryBatch<Integer> batch = TryBatch.map(new String[]{"1"}, TryBatchTest::parse);
+        assertThatThrownBy(() -> batch.get(1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void shouldMapInParallelLikeSequentially() {
+        final List<String> values = IntStream.range(0, 50_000)
+                .mapToObj(i -> i % 997 == 0 ? "bad" + i : String.valueOf(i))
+                .collect(Collectors.toList());
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final TryBatch<Integer> parallel = TryBatch.mapParallel(values, TryBatchTest::parse, pool);
+            final TryBatch<Integer> sequential = TryBatch.map(values, TryBatchTest::parse);
+
+            assertThat(parallel.successes()).isEqualTo(sequential.successes());
+            assertThat(parallel.failures().keySet()).containsExactlyElementsOf(sequential.failures().keySet());
+            for (Map.Entry<Integer, Throwable> failure : parallel.failures().entrySet()) {
+                assertThat(failure.getValue()).hasMessage("bad" + failure.getKey());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldMapEmptyInput() {
+        final TryBatch<Integer> batch = TryBatch.mapParallel(new String[0], TryBatchTest::parse, ForkJoinPool.commonPool());
+        assertThat(batch.size()).isZero();
+        assertThat(batch.toTry()).isEqualTo(Try.success(List.of()));
+    }
+}
@@ -0,0 +1,106 @@
+package control;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TryFnTest {
+
+    private final TryFn<String, Integer> parse = TryFn.<String>identity()
+            .mapTry(Integer::parseInt)
+            .filter(i -> i > 0)
+            .map(i -> i * 2);
+
+    @Test
+    public void shouldApplyAllStepsToSuccess() {
+        assertThat(parse.apply("21")).isEqualTo(Try.success(42));
+    }
+
+    @Test
+    public void shouldBehaveLikeChainedTry() {
+        for (String input : new String[]{"21", "-1", "x"}) {
+            final Try<Integer> chained = Try.success(input).mapTry(Integer::parseInt).filter(i -> i > 0).map(i -> i * 2);
+            final Try<Integer> fused = parse.apply(input);
+            assertThat(fused.isSuccess()).isEqualTo(chained.isSuccess());
+            if (fused.isSuccess()) assertThat(fused).isEqualTo(chained);
+            else assertThat(fused.getCause()).hasSameClassAs(chained.getCause()).hasMessage(chained.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void shouldFailWithDefaultFilterError() {
+        assertThat(parse.apply("-1").getCause())
+                .isInstanceOf(NoSuchElementException.class)
+                .hasMessage("Predicate does not hold for -1");
+    }
+
+    @Test
+    public void shouldFailWithProvidedFilterError() {
+        final IllegalArgumentException error = new IllegalArgumentException();
+        final TryFn<Integer, Integer> positive = TryFn.<Integer>identity().filter(i -> i > 0, i -> error);
+        assertThat(positive.apply(-1).getCause()).isSameAs(error);
+    }
+
+    @Test
+    public void shouldSkipStepsAfterFailure() {
+        final AtomicInteger count = new AtomicInteger();
+        final IOException error = new IOException();
+        final Try<Integer> actual = TryFn.<Integer, Integer>of(i -> {
+            throw error;
+        }).map(count::addAndGet).flatMap(Try::success).apply(1);
+
+        assertThat(actual.getCause()).isSameAs(error);
+        assertThat(count.get()).isZero();
+    }
+
+    @Test
+    public void shouldFlatMap() {
+        final TryFn<Integer, Integer> half = TryFn.<Integer>identity()
+                .flatMap(i -> i % 2 == 0 ? Try.success(i / 2) : Try.failure(new ArithmeticException()));
+        assertThat(half.apply(4)).isEqualTo(Try.success(2));
+        assertThat(half.apply(3).getCause()).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    public void shouldRecoverAndContinue() {
+        final TryFn<String, Integer> recovered = parse.recover(t -> 0).map(i -> i + 1);
+        assertThat(recovered.apply("x")).isEqualTo(Try.success(1));
+        assertThat(recovered.apply("1")).isEqualTo(Try.success(3));
+    }
+
+    @Test
+    public void shouldRecoverWith() {
+        final IOException error = new IOException();
+        final TryFn<String, Integer> recovered = parse.recoverWith(t -> Try.failure(error));
+        assertThat(recovered.apply("x").getCause()).isSameAs(error);
+        assertThat(parse.recoverWith(t -> Try.success(7)).apply("x")).isEqualTo(Try.success(7));
+    }
+
+    @Test
+    public void shouldReturnSameFailureWithoutRecovery() {
+        final Try<String> failure = Try.failure(new IOException());
+        assertThat(parse.applyTry(failure)).isSameAs(failure);
+        assertThat(parse.recover(t -> 0).applyTry(failure)).isEqualTo(Try.success(0));
+        assertThat(parse.applyTry(Try.success("2"))).isEqualTo(Try.success(4));
+    }
+
+    @Test
+    public void shouldNotChangeExistingPipeline() {
+        parse.map(i -> -i);
+        assertThat(parse.apply("1")).isEqualTo(Try.success(2));
+        assertThat(TryFn.<String>identity().apply("a")).isEqualTo(Try.success("a"));
+    }
+
+    @Test
+    public void shouldRethrowFatalErrors() {
+        final TryFn<Integer, Integer> fatal = TryFn.<Integer, Integer>of(i -> {
+            throw new OutOfMemoryError();
+        }).recover(t -> 0);
+        assertThatThrownBy(() -> fatal.apply(1)).isInstanceOf(OutOfMemoryError.class);
+    }
+}
@@ -1,5 +1,6 @@
 package control;
 
+import control.func.CheckedFunction0;
 import control.func.CheckedPredicate;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -8,9 +9,11 @@ import java.io.IOException;
 import java.lang.reflect.Proxy;
 import java.lang.reflect.UndeclaredThrowableException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -537,6 +540,196 @@ public class TryTest extends AbstractValueTest {
         assertThat(closeable8.isClosed).isTrue();
     }
 
+    // -- Try.withResources(List)
+
+    @Test
+    public void shouldCreateSuccessTryWithResourcesList() {
+        final List<Closeable<Integer>> closeables = new ArrayList<>();
+        final List<CheckedFunction0<Closeable<Integer>>> suppliers = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            final Closeable<Integer> closeable = Closeable.of(i);
+            closeables.add(closeable);
+            suppliers.add(() -> closeable);
+        }
+        final Try<Integer> actual = Try.withResources(suppliers).of(resources -> resources.stream().mapToInt(c -> c.value).sum());
+        assertThat(actual).isEqualTo(Try.success(190));
+        assertThat(closeables.stream().allMatch(c -> c.isClosed)).isTrue();
+    }
+
+    @Test
+    public void shouldCloseResourcesListInReverseOrder() {
+        final List<Integer> closed = new ArrayList<>();
+        final List<CheckedFunction0<AutoCloseable>> suppliers = List.of(
+                () -> () -> closed.add(1),
+                () -> () -> closed.add(2),
+                () -> () -> closed.add(3)
+        );
+        final Try<Integer> actual = Try.withResources(suppliers).of(List::size);
+        assertThat(actual).isEqualTo(Try.success(3));
+        assertThat(closed).isEqualTo(List.of(3, 2, 1));
+    }
+
+    @Test
+    public void shouldCreateFailureTryWithResourcesListAndSuppressCloseFailures() {
+        final IOException primary = new IOException("primary");
+        final IOException onClose = new IOException("close");
+        final Closeable<Integer> closeable = Closeable.of(1);
+        final List<CheckedFunction0<AutoCloseable>> suppliers = List.of(
+                () -> closeable,
+                () -> () -> {
+                    throw onClose;
+                }
+        );
+        final Try<Object> actual = Try.withResources(suppliers).of(resources -> {
+            throw primary;
+        });
+        assertThat(actual.getCause()).isSameAs(primary);
+        assertThat(primary.getSuppressed()).containsExactly(onClose);
+        assertThat(closeable.isClosed).isTrue();
+    }
+
+    @Test
+    public void shouldCloseAcquiredResourcesWhenListAcquisitionFails() {
+        final Closeable<Integer> closeable = Closeable.of(1);
+        final List<CheckedFunction0<AutoCloseable>> suppliers = List.of(
+                () -> closeable,
+                () -> {
+                    throw new IOException();
+                }
+        );
+        final Try<Integer> actual = Try.withResources(suppliers).of(List::size);
+        assertThat(actual.getCause()).isInstanceOf(IOException.class);
+        assertThat(closeable.isClosed).isTrue();
+    }
+
+    @Test
+    public void shouldCreateFailureWhenClosingResourcesListFails() {
+        final IOException onClose = new IOException("close");
+        final List<CheckedFunction0<AutoCloseable>> suppliers = List.of(() -> () -> {
+            throw onClose;
+        });
+        final Try<Integer> actual = Try.withResources(suppliers).of(List::size);
+        assertThat(actual.getCause()).isSameAs(onClose);
+    }
+
+    // -- Try.withResources(...).stream
+
+    @Test
+    public void shouldCloseStreamResourcesOnlyWhenStreamIsClosed() {
+        final Closeable<Integer> closeable1 = Closeable.of(1);
+        final Closeable<Integer> closeable2 = Closeable.of(2);
+        final Try<Stream<Integer>> actual = Try.withResources(() -> closeable1, () -> closeable2)
+                .stream((i1, i2) -> Stream.of(i1.value, i2.value));
+        assertThat(actual.isSuccess()).isTrue();
+        assertThat(closeable1.isClosed).isFalse();
+        assertThat(closeable2.isClosed).isFalse();
+
+        try (Stream<Integer> stream = actual.get()) {
+            assertThat(stream.mapToInt(Integer::intValue).sum()).isEqualTo(3);
+        }
+        assertThat(closeable1.isClosed).isTrue();
+        assertThat(closeable2.isClosed).isTrue();
+    }
+
+    @Test
+    public void shouldCloseStreamResourcesInReverseOrder() {
+        final List<Integer> closed = new ArrayList<>();
+        final Try<Stream<Integer>> actual = Try.withResources(
+                () -> (AutoCloseable) () -> closed.add(1),
+                () -> (AutoCloseable) () -> closed.add(2),
+                () -> (AutoCloseable) () -> closed.add(3)
+        ).stream((r1, r2, r3) -> Stream.of(1));
+        actual.get().close();
+        assertThat(closed).isEqualTo(List.of(3, 2, 1));
+    }
+
+    @Test
+    public void shouldCloseAcquiredResourcesWhenStreamFunctionFails() {
+        final Closeable<Integer> closeable1 = Closeable.of(1);
+        final Try<Stream<Integer>> actual = Try.withResources(() -> closeable1).stream(i1 -> {
+            throw new IOException();
+        });
+        assertThat(actual.getCause()).isInstanceOf(IOException.class);
+        assertThat(closeable1.isClosed).isTrue();
+    }
+
+    @Test
+    public void shouldCloseAcquiredResourcesWhenStreamResourceAcquisitionFails() {
+        final Closeable<Integer> closeable1 = Closeable.of(1);
+        final Try<Stream<Integer>> actual = Try.withResources(() -> closeable1, () -> {
+            throw new IOException();
+        }).stream((i1, i2) -> Stream.of(i1.value));
+        assertThat(actual.getCause()).isInstanceOf(IOException.class);
+        assertThat(closeable1.isClosed).isTrue();
+    }
+
+    @Test
+    public void shouldSuppressCloseFailuresOfStreamResources() {
+        final IOException first = new IOException("first");
+        final IOException second = new IOException("second");
+        final Try<Stream<Integer>> actual = Try.withResources(
+                () -> (AutoCloseable) () -> {
+                    throw second;
+                },
+                () -> (AutoCloseable) () -> {
+                    throw first;
+                }
+        ).stream((r1, r2) -> Stream.of(1));
+        final Stream<Integer> stream = actual.get();
+        assertThatThrownBy(stream::close).isSameAs(first);
+        assertThat(first.getSuppressed()).containsExactly(second);
+    }
+
+    // -- Try.withResources(...).ofAsync
+
+    @Test
+    public void shouldCloseAsyncResourcesOnlyWhenFutureCompletes() {
+        final Closeable<Integer> closeable1 = Closeable.of(1);
+        final Closeable<Integer> closeable2 = Closeable.of(2);
+        final CompletableFuture<String> body = new CompletableFuture<>();
+        final CompletableFuture<Try<String>> actual = Try.withResources(() -> closeable1, () -> closeable2)
+                .ofAsync((i1, i2) -> body);
+        assertThat(closeable1.isClosed).isFalse();
+        assertThat(closeable2.isClosed).isFalse();
+
+        body.complete("done");
+        assertThat(actual.join()).isEqualTo(Try.success("done"));
+        assertThat(closeable1.isClosed).isTrue();
+        assertThat(closeable2.isClosed).isTrue();
+    }
+
+    @Test
+    public void shouldCloseAsyncResourcesWhenFutureFails() {
+        final Closeable<Integer> closeable1 = Closeable.of(1);
+        final CompletableFuture<String> body = new CompletableFuture<>();
+        final CompletableFuture<Try<String>> actual = Try.withResources(() -> closeable1).ofAsync(i1 -> body);
+
+        body.completeExceptionally(new IOException());
+        assertThat(actual.join().getCause()).isInstanceOf(IOException.class);
+        assertThat(closeable1.isClosed).isTrue();
+    }
+
+    @Test
+    public void shouldCloseAsyncResourcesAndCancelBodyWhenResultIsCancelled() {
+        final Closeable<Integer> closeable1 = Closeable.of(1);
+        final CompletableFuture<String> body = new CompletableFuture<>();
+        final CompletableFuture<Try<String>> actual = Try.withResources(() -> closeable1).ofAsync(i1 -> body);
+
+        actual.cancel(true);
+        assertThat(body.isCancelled()).isTrue();
+        assertThat(closeable1.isClosed).isTrue();
+    }
+
+    @Test
+    public void shouldCloseAsyncResourcesWhenBodyThrows() {
+        final Closeable<Integer> closeable1 = Closeable.of(1);
+        final CompletableFuture<Try<String>> actual = Try.withResources(() -> closeable1).ofAsync(i1 -> {
+            throw new IOException();
+        });
+        assertThat(actual.join().getCause()).isInstanceOf(IOException.class);
+        assertThat(closeable1.isClosed).isTrue();
+    }
+
     // -- Failure.Cause
 
     @Test
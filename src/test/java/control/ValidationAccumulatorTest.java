@@ -0,0 +1,96 @@
+package control;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ValidationAccumulatorTest {
+
+    @Test
+    public void shouldCollectValidValuesInIndexOrder() {
+        final ValidationAccumulator<String, Integer> accumulator = ValidationAccumulator.ordered();
+        IntStream.range(0, 100_000).parallel().forEach(i -> accumulator.add(i, Validation.valid(i)));
+
+        final List<Integer> values = accumulator.result().get();
+        assertThat(values).hasSize(100_000);
+        for (int i = 0; i < values.size(); i++) assertThat(values.get(i)).isEqualTo(i);
+    }
+
+    @Test
+    public void shouldCollectErrorsInIndexOrder() {
+        final ValidationAccumulator<String, Integer> accumulator = ValidationAccumulator.ordered();
+        IntStream.range(0, 10_000).parallel().forEach(i ->
+                accumulator.add(i, i % 1_000 == 0 ? Validation.invalid("bad row " + i) : Validation.valid(i)));
+
+        final List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 10_000; i += 1_000) expected.add("bad row " + i);
+        assertThat(accumulator.result().getError()).isEqualTo(expected);
+    }
+
+    @Test
+    public void shouldCollectFromExecutorThreads() throws InterruptedException {
+        final ValidationAccumulator<String, Integer> accumulator = ValidationAccumulator.create();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int worker = 0; worker < 4; worker++) {
+            final int first = worker * 1_000;
+            executor.execute(() -> {
+                for (int i = first; i < first + 1_000; i++) accumulator.add(Validation.valid(i));
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        final List<Integer> values = accumulator.result().get();
+        assertThat(values).hasSize(4_000).doesNotHaveDuplicates();
+        assertThat(values).containsAll(IntStream.range(0, 4_000).boxed().toList());
+    }
+
+    @Test
+    public void shouldKeepThreadOrderWhenUnordered() {
+        final ValidationAccumulator<String, Integer> accumulator = ValidationAccumulator.create();
+        accumulator.add(Validation.valid(3));
+        accumulator.add(Validation.invalid("e1"));
+        accumulator.add(Validation.valid(1));
+        accumulator.add(Validation.invalid("e2"));
+        assertThat(accumulator.result()).isEqualTo(Validation.invalid(List.of("e1", "e2")));
+    }
+
+    @Test
+    public void shouldReturnEmptyValidWhenNothingAdded() {
+        assertThat(ValidationAccumulator.<String, Integer>ordered().result()).isEqualTo(Validation.valid(List.of()));
+    }
+
+    @Test
+    public void shouldNotKeepValuesReachableFromAddingThread() throws InterruptedException {
+        final WeakReference<Object> value = addAndDrop();
+        for (int i = 0; i < 10 && value.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(value.get()).isNull();
+    }
+
+    // The accumulator is unreachable once this returns, the current thread stays alive
+    private static WeakReference<Object> addAndDrop() {
+        final Object value = new Object();
+        final ValidationAccumulator<String, Object> accumulator = ValidationAccumulator.create();
+        accumulator.add(Validation.valid(value));
+        assertThat(accumulator.result().get()).containsExactly(value);
+        return new WeakReference<>(value);
+    }
+
+    @Test
+    public void shouldRequireIndexWhenOrdered() {
+        final ValidationAccumulator<String, Integer> accumulator = ValidationAccumulator.ordered();
+        assertThatThrownBy(() -> accumulator.add(Validation.valid(1))).isInstanceOf(IllegalStateException.class);
+    }
+}
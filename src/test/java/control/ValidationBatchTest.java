@@ -0,0 +1,124 @@
+package control;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ValidationBatchTest {
+
+    private final int[] ages = {30, -1, 40, 200};
+    private final String[] names = {"a", "b", "", ""};
+
+    private ValidationBatch.Result<String> validate() {
+        return ValidationBatch.<String>of(4)
+                .ints(ages, age -> age >= 0 && age < 150, row -> "age " + ages[row])
+                .column(names, name -> !name.isEmpty(), row -> "empty name")
+                .validate();
+    }
+
+    @Test
+    public void shouldProduceMaskPerRule() {
+        final ValidationBatch.Result<String> result = validate();
+        assertThat(result.mask(0)).isEqualTo(bits(0, 2));
+        assertThat(result.mask(1)).isEqualTo(bits(0, 1));
+        assertThat(result.validRows()).isEqualTo(bits(0));
+        assertThat(result.isValid(0)).isTrue();
+        assertThat(result.isValid(3)).isFalse();
+        assertThat(result.invalidCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldListErrorsByRowThenRule() {
+        assertThat(validate().errors()).containsExactly(
+                new ValidationBatch.RowError<>(1, 0, "age -1"),
+                new ValidationBatch.RowError<>(2, 1, "empty name"),
+                new ValidationBatch.RowError<>(3, 0, "age 200"),
+                new ValidationBatch.RowError<>(3, 1, "empty name"));
+    }
+
+    @Test
+    public void shouldOnlyBuildErrorsForInvalidRows() {
+        final AtomicInteger built = new AtomicInteger();
+        final double[] values = IntStream.range(0, 10_000).mapToDouble(i -> i == 4321 ? Double.NaN : i).toArray();
+        final ValidationBatch.Result<Integer> result = ValidationBatch.<Integer>of(values.length)
+                .doubles(values, v -> !Double.isNaN(v), row -> {
+                    built.incrementAndGet();
+                    return row;
+                })
+                .validate();
+
+        assertThat(built.get()).isZero();
+        assertThat(result.errors()).extracting(ValidationBatch.RowError::error).containsExactly(4321);
+        assertThat(result.errors()).hasSize(1);
+        assertThat(built.get()).isEqualTo(1);
+        assertThat(result.validRows().cardinality()).isEqualTo(9_999);
+    }
+
+    @Test
+    public void shouldConvertToValidation() {
+        assertThat(validate().toValidation().getError()).hasSize(4);
+
+        final long[] ids = {1, 2, 3};
+        final Validation<List<ValidationBatch.RowError<String>>, BitSet> valid = ValidationBatch.<String>of(3)
+                .longs(ids, id -> id > 0, row -> "id")
+                .validate()
+                .toValidation();
+        assertThat(valid).isEqualTo(Validation.valid(bits(0, 1, 2)));
+    }
+
+    @Test
+    public void shouldValidateRowsAcrossWords() {
+        final List<Integer> values = IntStream.range(0, 130).boxed().collect(Collectors.toList());
+        final ValidationBatch.Result<String> result = ValidationBatch.<String>of(130)
+                .column(values, v -> v % 64 != 63, row -> "row " + row)
+                .rule(row -> row != 128, row -> "rule " + row)
+                .validate();
+
+        assertThat(result.invalidCount()).isEqualTo(3);
+        assertThat(result.errors()).extracting(ValidationBatch.RowError::row).containsExactly(63, 127, 128);
+    }
+
+    @Test
+    public void shouldRunNumericChecks() {
+        final int[] quantities = {1, -1, 0, 3};
+        final long[] ids = {10, 11, -1, 13};
+        final double[] prices = {1.5, 2.0, Double.NaN, 100.0};
+        final ValidationBatch.Result<String> result = ValidationBatch.<String>of(4)
+                .nonNegative(quantities, row -> "quantity")
+                .notEqual(ids, -1L, row -> "id")
+                .notNaN(prices, row -> "price")
+                .doubleRange(prices, 0, 50, row -> "price range")
+                .validate();
+
+        assertThat(result.invalidRows()).containsExactly(1, 2, 3);
+        assertThat(result.errors()).extracting(ValidationBatch.RowError::error)
+                .containsExactly("quantity", "id", "price", "price range", "price range");
+    }
+
+    @Test
+    public void shouldValidateWithoutRules() {
+        final ValidationBatch.Result<String> result = ValidationBatch.<String>of(70).validate();
+        assertThat(result.isAllValid()).isTrue();
+        assertThat(result.validRows().cardinality()).isEqualTo(70);
+    }
+
+    @Test
+    public void shouldRejectColumnOfOtherSize() {
+        assertThatThrownBy(() -> ValidationBatch.<String>of(3).ints(new int[2], i -> true, row -> ""))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("column has 2 rows, expected 3");
+    }
+
+    private static BitSet bits(int... indexes) {
+        final BitSet bits = new BitSet();
+        for (int index : indexes) bits.set(index);
+        return bits;
+    }
+}
@@ -0,0 +1,84 @@
+package control;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ValidationReportTest {
+
+    enum Code {
+        EMPTY, NEGATIVE, TOO_LONG
+    }
+
+    private static Validation<String, Integer> parse(int line) {
+        if (line % 10 == 0) return Validation.invalid("empty: line " + line);
+        if (line % 7 == 0) return Validation.invalid("negative: line " + line);
+        return Validation.valid(line);
+    }
+
+    private static String type(String error) {
+        return error.substring(0, error.indexOf(':'));
+    }
+
+    @Test
+    public void shouldCountErrorsByTypeAndKeepFirstExamples() {
+        final ValidationReport<String, String> report = ValidationReport.of(ValidationReportTest::type, 2);
+        for (int line = 1; line <= 100; line++) report.accept(parse(line));
+
+        assertThat(report.total()).isEqualTo(100);
+        assertThat(report.invalidCount()).isEqualTo(10 + 13);
+        assertThat(report.validCount()).isEqualTo(77);
+        assertThat(report.counts()).containsExactly(Map.entry("negative", 13L), Map.entry("empty", 10L));
+        assertThat(report.examples("empty")).containsExactly("empty: line 10", "empty: line 20");
+        assertThat(report.examples("unknown")).isEmpty();
+        assertThat(report.count("unknown")).isZero();
+    }
+
+    @Test
+    public void shouldCollectParallelStreamInEncounterOrder() {
+        final ValidationReport<String, String> report = IntStream.rangeClosed(1, 1_000_000).parallel()
+                .mapToObj(ValidationReportTest::parse)
+                .collect(ValidationReport.collector(ValidationReportTest::type, 3));
+
+        assertThat(report.total()).isEqualTo(1_000_000);
+        assertThat(report.count("empty")).isEqualTo(100_000);
+        assertThat(report.examples("empty")).containsExactly("empty: line 10", "empty: line 20", "empty: line 30");
+        assertThat(report.examples("negative")).containsExactly("negative: line 7", "negative: line 14", "negative: line 21");
+    }
+
+    @Test
+    public void shouldAcceptEithers() {
+        final ValidationReport<Code, Code> report = List.<Either<Code, Integer>>of(Either.right(1), Either.left(Code.EMPTY), Either.left(Code.EMPTY))
+                .stream()
+                .collect(ValidationReport.eitherCollector(code -> code, 1));
+        assertThat(report.counts()).containsExactly(Map.entry(Code.EMPTY, 2L));
+        assertThat(report.examples(Code.EMPTY)).containsExactly(Code.EMPTY);
+        assertThat(report.validCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldMergeReports() {
+        final ValidationReport<Code, Code> first = ValidationReport.of(1);
+        first.accept(Validation.invalid(Code.NEGATIVE));
+        first.acceptValid();
+        final ValidationReport<Code, Code> second = ValidationReport.of(1);
+        second.acceptError(Code.TOO_LONG);
+        second.acceptError(Code.NEGATIVE);
+
+        final ValidationReport<Code, Code> merged = first.merge(second);
+        assertThat(merged.total()).isEqualTo(4);
+        assertThat(merged.counts()).containsExactly(Map.entry(Code.NEGATIVE, 2L), Map.entry(Code.TOO_LONG, 1L));
+        assertThat(merged.examples()).containsExactly(Map.entry(Code.NEGATIVE, List.of(Code.NEGATIVE)), Map.entry(Code.TOO_LONG, List.of(Code.TOO_LONG)));
+        assertThat(merged.isAllValid()).isFalse();
+    }
+
+    @Test
+    public void shouldRejectNegativeExampleCount() {
+        assertThatThrownBy(() -> ValidationReport.of(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
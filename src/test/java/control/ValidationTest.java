@@ -460,6 +460,143 @@ public class ValidationTest extends AbstractValueTest {
         assertThat(result2.isInvalid()).isTrue();
     }
 
+    // -- combineAll
+
+    @Test
+    public void shouldCombineMoreThanEightValidations() {
+        final List<Validation<String, Integer>> fields = new ArrayList<>();
+        for (int i = 0; i < 30; i++) fields.add(Validation.valid(i));
+
+        final Validation<List<String>, Integer> sum = Validation.combineAll(fields).ap(values -> {
+            int total = 0;
+            for (int i = 0; i < values.size(); i++) total += values.<Integer>get(i);
+            return total;
+        });
+        assertThat(sum).isEqualTo(Validation.valid(435));
+    }
+
+    @Test
+    public void shouldCollectErrorsOfAllInvalidsInOrder() {
+        final Validation<List<String>, String> result = Validation.<String>combineAll(
+                Validation.valid(1), Validation.invalid("e1"), Validation.valid("a"), Validation.invalid("e2"))
+                .ap(values -> "never");
+        assertThat(result.getError()).containsExactly("e1", "e2");
+    }
+
+    @Test
+    public void shouldReadTypedValues() {
+        final Validation<List<String>, String> result = Validation.<String>combineAll(Validation.valid(1), Validation.valid("a"))
+                .combine(Validation.valid(true))
+                .ap(values -> values.get(1, String.class) + values.<Integer>get(0) + values.get(2));
+        assertThat(result).isEqualTo(Validation.valid("a1true"));
+    }
+
+    @Test
+    public void shouldContinueBuilder8WithCombine() {
+        final Validation<String, Integer> v = Validation.valid(1);
+        final Validation<List<String>, List<Object>> result = Validation.combine(v, v, v, v, v, v, v, v)
+                .combine(Validation.invalid("e9"))
+                .ap(Validation.Values::toList);
+        assertThat(result.getError()).containsExactly("e9");
+        assertThat(Validation.combine(v, v, v, v, v, v, v, v).combine(v).ap(Validation.Values::toList).get()).hasSize(9);
+    }
+
+    @Test
+    public void shouldCombineWideRecordIntoSingleBuilder() {
+        final Validation<String, Integer> v = Validation.valid(1);
+        final Validation.BuilderN<String> builder = Validation.combine(v, v, v, v, v, v, v, v).combine(v);
+        for (int i = 10; i <= 30; i++) {
+            assertThat(builder.combine(i == 20 ? Validation.invalid("e" + i) : Validation.valid(i))).isSameAs(builder);
+        }
+        assertThat(builder.size()).isEqualTo(30);
+        assertThat(builder.ap(Validation.Values::toList).getError()).containsExactly("e20");
+        assertThrows(NullPointerException.class, () -> builder.combine(null));
+    }
+
+    @Test
+    public void shouldThrowOnNullValidationInCombineAll() {
+        assertThrows(NullPointerException.class, () -> Validation.combineAll(Validation.valid(1), null));
+    }
+
+    // -- Accumulation
+
+    @Test
+    public void shouldCapSequenceErrorsAndStopReading() {
+        final List<Validation<List<String>, Integer>> lines = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) lines.add(Validation.invalid(List.of("bad line " + i)));
+        final int[] read = {0};
+        final Iterable<Validation<List<String>, Integer>> counted = () -> lines.stream().peek(line -> read[0]++).iterator();
+
+        final Validation<List<String>, List<Integer>> result = Validation.sequence(counted, Accumulation.limit(1_000));
+        assertThat(result.getError()).hasSize(1_000).startsWith("bad line 0").endsWith("bad line 999");
+        assertThat(read[0]).isEqualTo(1_000);
+    }
+
+    @Test
+    public void shouldSequenceValidValuesWithPolicy() {
+        final Validation<List<String>, List<Integer>> result = Validation.sequence(
+                List.of(Validation.valid(1), Validation.valid(2)), Accumulation.failFast());
+        assertThat(result).isEqualTo(Validation.valid(List.of(1, 2)));
+    }
+
+    @Test
+    public void shouldIgnoreEmptyErrorListsInSequenceWithPolicy() {
+        final List<Validation<List<String>, Integer>> values = List.of(
+                Validation.valid(1), Validation.invalid(List.of()), Validation.valid(2));
+        assertThat(Validation.sequence(values, Accumulation.all())).isEqualTo(Validation.sequence(values));
+        assertThat(Validation.sequence(values, Accumulation.failFast())).isEqualTo(Validation.valid(List.of(1, 2)));
+    }
+
+    @Test
+    public void shouldDedupeSequenceErrors() {
+        final Validation<List<String>, List<Integer>> result = Validation.sequence(List.of(
+                Validation.<List<String>, Integer>invalid(List.of("empty", "negative")),
+                Validation.<List<String>, Integer>invalid(List.of("empty")),
+                Validation.<List<String>, Integer>invalid(List.of("too long", "empty"))), Accumulation.limit(2).distinct());
+        assertThat(result.getError()).containsExactly("empty", "negative");
+        assertThat(Validation.sequence(List.of(
+                Validation.<List<String>, Integer>invalid(List.of("empty", "negative")),
+                Validation.<List<String>, Integer>invalid(List.of("empty", "too long"))), Accumulation.all().distinct()).getError())
+                .containsExactly("empty", "negative", "too long");
+    }
+
+    @Test
+    public void shouldKeepFirstErrorOfCombineWhenFailFast() {
+        final Validation<List<String>, String> result = Validation.<String, Integer, Integer, Integer>combine(
+                Validation.valid(1), Validation.invalid("e2"), Validation.invalid("e3"))
+                .ap(Accumulation.failFast(), (a, b, c) -> "never");
+        assertThat(result.getError()).containsExactly("e2");
+        assertThat(Validation.<String, Integer, Integer>combine(Validation.valid(1), Validation.valid(2))
+                .ap(Accumulation.failFast(), Integer::sum)).isEqualTo(Validation.valid(3));
+    }
+
+    @Test
+    public void shouldCapCombineAllErrors() {
+        final List<Validation<String, Integer>> fields = new ArrayList<>();
+        for (int i = 0; i < 20; i++) fields.add(Validation.invalid(i % 2 == 0 ? "even" : "odd " + i));
+
+        assertThat(Validation.combineAll(fields).ap(Accumulation.limit(3), values -> 0).getError())
+                .containsExactly("even", "odd 1", "even");
+        assertThat(Validation.combineAll(fields).ap(Accumulation.limit(3).distinct(), values -> 0).getError())
+                .containsExactly("even", "odd 1", "odd 3");
+    }
+
+    @Test
+    public void shouldApplyPolicyToAp() {
+        final Validation<List<String>, Function<Integer, Integer>> errors = Validation.invalid(List.of("e1", "e2"));
+        final Validation<String, Integer> invalid = Validation.invalid("e3");
+
+        assertThat(invalid.ap(errors, Accumulation.limit(2)).getError()).containsExactly("e1", "e2");
+        assertThat(invalid.ap(errors, Accumulation.all()).getError()).containsExactly("e1", "e2", "e3");
+        assertThat(Validation.<String, Integer>valid(1).ap(Validation.valid(i -> i + 1), Accumulation.failFast()))
+                .isEqualTo(Validation.valid(2));
+    }
+
+    @Test
+    public void shouldRejectNonPositiveLimit() {
+        assertThrows(IllegalArgumentException.class, () -> Accumulation.limit(0));
+    }
+
     // -- miscellaneous
 
     @Test
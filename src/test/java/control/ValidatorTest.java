@@ -0,0 +1,105 @@
+package control;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ValidatorTest {
+
+    record Person(String name, int age, String email) {
+    }
+
+    private static Validator.Builder<Person, String> rules() {
+        return Validator.<Person, String>builder()
+                .rule(Person::name, name -> !name.isBlank(), "name is blank")
+                .rule(Person::age, age -> age >= 0, age -> "negative age " + age)
+                .rule(Person::email, email -> email.contains("@"), email -> "invalid email " + email);
+    }
+
+    private final Validator<Person, String> validator = rules().build();
+
+    @Test
+    public void shouldReturnValueWhenAllRulesHold() {
+        final Person person = new Person("Ann", 30, "ann@mail.com");
+        assertThat(validator.validate(person)).isEqualTo(Validation.valid(person));
+        assertThat(validator.isValid(person)).isTrue();
+    }
+
+    @Test
+    public void shouldAccumulateErrorsInDeclarationOrder() {
+        final Validation<List<String>, Person> actual = validator.validate(new Person(" ", -1, "mail"));
+        assertThat(actual.getError()).containsExactly("name is blank", "negative age -1", "invalid email mail");
+        assertThat(validator.isValid(new Person(" ", 1, "a@b"))).isFalse();
+    }
+
+    @Test
+    public void shouldStopAtFirstErrorWhenFailFast() {
+        final AtomicInteger checked = new AtomicInteger();
+        final Validator<Person, String> failFast = Validator.<Person, String>builder()
+                .rule(Person::age, age -> age >= 0, "negative age")
+                .rule(Person::email, email -> checked.incrementAndGet() > 0, "never")
+                .failFast()
+                .build();
+
+        assertThat(failFast.validate(new Person("a", -1, "")).getError()).containsExactly("negative age");
+        assertThat(checked.get()).isZero();
+    }
+
+    @Test
+    public void shouldCheckWholeValue() {
+        final Validator<Person, String> consistent = rules()
+                .rule(person -> !person.email().startsWith(person.name() + "@"), "email must not start with name")
+                .build();
+        assertThat(consistent.validate(new Person("ann", 1, "ann@mail")).getError()).containsExactly("email must not start with name");
+        assertThat(consistent.ruleCount()).isEqualTo(4);
+    }
+
+    @Test
+    public void shouldRunRulesInParallelKeepingOrder() {
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            final Validator<Person, String> parallel = rules().parallel(executor).build();
+            assertThat(parallel.validate(new Person(" ", -1, "mail")).getError())
+                    .containsExactly("name is blank", "negative age -1", "invalid email mail");
+            final Person person = new Person("Ann", 30, "ann@mail.com");
+            assertThat(parallel.validate(person)).isEqualTo(Validation.valid(person));
+            assertThat(rules().parallel(executor).failFast().build().validate(new Person(" ", -1, "mail")).getError())
+                    .containsExactly("name is blank");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldPropagateRuleExceptionWhenParallel() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Validator<Person, String> failing = Validator.<Person, String>builder()
+                    .rule(Person::name, name -> {
+                        throw new IllegalStateException("boom");
+                    }, "never")
+                    .parallel(executor)
+                    .build();
+            assertThatThrownBy(() -> failing.validate(new Person("a", 1, "a@b")))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("boom");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldNotChangeBuiltValidator() {
+        final Validator.Builder<Person, String> builder = rules();
+        final Validator<Person, String> first = builder.build();
+        builder.rule(Person::age, age -> age < 100, "too old");
+        assertThat(first.ruleCount()).isEqualTo(3);
+        assertThat(builder.build().ruleCount()).isEqualTo(4);
+    }
+}